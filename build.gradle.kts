@@ -30,15 +30,22 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     runtimeOnly("com.mysql:mysql-connector-j")
 
+    // Schema migration
+    implementation("org.flywaydb:flyway-core")
+    implementation("org.flywaydb:flyway-mysql")
+
     // Redis
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
+    implementation("io.projectreactor:reactor-core")
 
     // Actuator + Prometheus Metrics
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
-    // Retry
-    implementation("org.springframework.retry:spring-retry")
+    // In-process cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // AOP
     implementation("org.springframework.boot:spring-boot-starter-aop")
 
     // Docker Compose support
@@ -46,6 +53,7 @@ dependencies {
 
     // Test
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("io.projectreactor:reactor-test")
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testImplementation("org.testcontainers:junit-jupiter")
     testImplementation("org.testcontainers:mysql")
@@ -62,4 +70,5 @@ tasks.register<Test>("performanceTest") {
     useJUnitPlatform {
         includeTags("performance")
     }
+    System.getProperty("sync.rows")?.let { systemProperty("sync.rows", it) }
 }
@@ -0,0 +1,309 @@
+package com.proximityservice.batch;
+
+import com.proximityservice.domain.GeoOutboxEvent;
+import com.proximityservice.dto.BusinessSearchProjection;
+import com.proximityservice.geo.GeoEntry;
+import com.proximityservice.geo.GeoIndex;
+import com.proximityservice.repository.BusinessProjectionRepository;
+import com.proximityservice.repository.BusinessRepository;
+import com.proximityservice.repository.GeoOutboxRepository;
+import com.proximityservice.service.BusinessProjectionCache;
+import com.proximityservice.service.SearchResponseCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@Slf4j
+public class GeoOutboxRelay implements DisposableBean {
+
+    private final GeoOutboxRepository outboxRepository;
+    private final BusinessRepository businessRepository;
+    private final GeoIndex geoIndex;
+    private final BusinessProjectionRepository projectionRepository;
+    private final BusinessProjectionCache projectionCache;
+    private final SearchResponseCache responseCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final boolean applyAfterCommit;
+    private final long retryBackoffMillis;
+    private final long maxRetryBackoffMillis;
+    private final int maxAttempts;
+
+    private final ExecutorService dispatcher =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("geo-outbox-relay").factory());
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicBoolean dispatchPending = new AtomicBoolean();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter relayed;
+    private final Counter failures;
+    private final Counter parked;
+
+    private int consecutiveFailures;
+    private long retryAtMillis;
+
+    public GeoOutboxRelay(GeoOutboxRepository outboxRepository,
+                          BusinessRepository businessRepository,
+                          GeoIndex geoIndex,
+                          BusinessProjectionRepository projectionRepository,
+                          BusinessProjectionCache projectionCache,
+                          SearchResponseCache responseCache,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${proximity.outbox.relay.batch-size:500}") int batchSize,
+                          @Value("${proximity.outbox.relay.apply-after-commit:false}") boolean applyAfterCommit,
+                          @Value("${proximity.outbox.relay.retry-backoff:1s}") Duration retryBackoff,
+                          @Value("${proximity.outbox.relay.max-retry-backoff:30s}") Duration maxRetryBackoff,
+                          @Value("${proximity.outbox.relay.max-attempts:8}") int maxAttempts) {
+        this.outboxRepository = outboxRepository;
+        this.businessRepository = businessRepository;
+        this.geoIndex = geoIndex;
+        this.projectionRepository = projectionRepository;
+        this.projectionCache = projectionCache;
+        this.responseCache = responseCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.applyAfterCommit = applyAfterCommit;
+        this.retryBackoffMillis = retryBackoff.toMillis();
+        this.maxRetryBackoffMillis = maxRetryBackoff.toMillis();
+        this.maxAttempts = maxAttempts;
+
+        this.relayed = Counter.builder("geo.outbox.relayed")
+                .description("Outbox events applied to the Redis geo index and projections")
+                .register(meterRegistry);
+        this.failures = Counter.builder("geo.outbox.failures")
+                .description("Relay batches that failed and were left in the outbox for retry")
+                .register(meterRegistry);
+        this.parked = Counter.builder("geo.outbox.parked")
+                .description("Outbox events set aside after failing max-attempts times on their own")
+                .register(meterRegistry);
+        meterRegistry.gauge("geo.outbox.lag", lagMillis);
+    }
+
+    public void publish(String businessId, GeoOutboxEvent.Type type) {
+        outboxRepository.save(new GeoOutboxEvent(businessId, type));
+        dispatchAfterCommit();
+    }
+
+    public void publishAll(Collection<String> businessIds, GeoOutboxEvent.Type type) {
+        outboxRepository.saveAll(businessIds.stream().map(id -> new GeoOutboxEvent(id, type)).toList());
+        dispatchAfterCommit();
+    }
+
+    @Scheduled(fixedDelayString = "${proximity.outbox.relay.interval:1s}")
+    public void poll() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("Geo outbox relay failed: {}", e.getMessage());
+        }
+    }
+
+    public int drain() {
+        drainLock.lock();
+        try {
+            if (System.currentTimeMillis() < retryAtMillis) {
+                return 0;
+            }
+            int total = 0;
+            while (true) {
+                Integer applied = transactionTemplate.execute(status -> relayBatch());
+                if (applied == null) {
+                    return total;
+                }
+                total += applied;
+                if (applied < batchSize) {
+                    return total;
+                }
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private void dispatchAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch();
+            }
+        });
+    }
+
+    private void dispatch() {
+        if (applyAfterCommit) {
+            drain();
+            return;
+        }
+        if (dispatchPending.compareAndSet(false, true)) {
+            dispatcher.execute(() -> {
+                dispatchPending.set(false);
+                poll();
+            });
+        }
+    }
+
+    private Integer relayBatch() {
+        List<GeoOutboxEvent> events = outboxRepository.lockOldest(batchSize);
+        if (events.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        try {
+            apply(events);
+        } catch (RuntimeException e) {
+            if (events.size() == 1 || isTransient(e)) {
+                return retryLater(events, e);
+            }
+            return relayEach(events);
+        }
+        complete(events);
+        return events.size();
+    }
+
+    private Integer relayEach(List<GeoOutboxEvent> events) {
+        List<GeoOutboxEvent> applied = new ArrayList<>();
+        List<GeoOutboxEvent> failed = new ArrayList<>();
+        RuntimeException failure = null;
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                apply(List.of(events.get(i)));
+                applied.add(events.get(i));
+            } catch (RuntimeException e) {
+                failure = e;
+                if (isTransient(e)) {
+                    failed.addAll(events.subList(i, events.size()));
+                    break;
+                }
+                failed.add(events.get(i));
+            }
+        }
+        if (!applied.isEmpty()) {
+            complete(applied);
+        }
+        return failed.isEmpty() ? events.size() : retryLater(failed, failure);
+    }
+
+    private void complete(List<GeoOutboxEvent> events) {
+        outboxRepository.deleteAllByIdInBatch(events.stream().map(GeoOutboxEvent::getId).toList());
+        relayed.increment(events.size());
+        lagMillis.set(events.get(0).getCreatedAt().until(LocalDateTime.now(), ChronoUnit.MILLIS));
+        consecutiveFailures = 0;
+    }
+
+    private Integer retryLater(List<GeoOutboxEvent> events, RuntimeException e) {
+        outboxRepository.incrementAttempts(events.stream().map(GeoOutboxEvent::getId).toList());
+        if (!isTransient(e)) {
+            List<Long> exhausted = events.stream()
+                    .filter(event -> event.getAttempts() + 1 >= maxAttempts)
+                    .map(GeoOutboxEvent::getId)
+                    .toList();
+            if (!exhausted.isEmpty()) {
+                outboxRepository.park(exhausted);
+                parked.increment(exhausted.size());
+                log.error("Parked geo outbox events {} after {} failed attempts: {}",
+                        exhausted, maxAttempts, e.getMessage());
+            }
+        }
+        failures.increment();
+        consecutiveFailures++;
+        long backoff = Math.min(retryBackoffMillis << Math.min(consecutiveFailures - 1, 20), maxRetryBackoffMillis);
+        retryAtMillis = System.currentTimeMillis() + backoff;
+        log.warn("Geo outbox relay failed for {} events, retrying in {}ms: {}",
+                events.size(), backoff, e.getMessage());
+        return null;
+    }
+
+    private void apply(List<GeoOutboxEvent> events) {
+        Map<String, GeoOutboxEvent.Type> latest = new LinkedHashMap<>();
+        for (GeoOutboxEvent event : events) {
+            latest.merge(event.getBusinessId(), event.getType(), GeoOutboxRelay::combine);
+        }
+        List<String> live = latest.entrySet().stream()
+                .filter(entry -> entry.getValue() != GeoOutboxEvent.Type.DELETE)
+                .map(Map.Entry::getKey)
+                .toList();
+        Map<String, BusinessSearchProjection> current = live.isEmpty()
+                ? Map.of()
+                : businessRepository.lockForShare(live).stream()
+                        .map(BusinessSearchProjection::from)
+                        .collect(Collectors.toMap(BusinessSearchProjection::id, Function.identity()));
+        Map<String, BusinessSearchProjection> previous = projectionRepository.findAll(List.copyOf(latest.keySet()));
+
+        List<String> removed = new ArrayList<>();
+        List<String> unindexed = new ArrayList<>();
+        List<GeoEntry> upserts = new ArrayList<>();
+        latest.forEach((businessId, type) -> {
+            BusinessSearchProjection projection = current.get(businessId);
+            if (projection == null) {
+                removed.add(businessId);
+                unindexed.add(businessId);
+                return;
+            }
+            if (type == GeoOutboxEvent.Type.REINDEX) {
+                unindexed.add(businessId);
+            }
+            upserts.add(projection.toGeoEntry());
+        });
+        geoIndex.removeAll(unindexed);
+        geoIndex.addAll(upserts);
+        projectionRepository.saveAll(current.values());
+        projectionRepository.deleteAll(removed);
+        latest.keySet().forEach(projectionCache::evict);
+        invalidate(previous.values());
+        invalidate(current.values());
+    }
+
+    private void invalidate(Collection<BusinessSearchProjection> projections) {
+        for (BusinessSearchProjection projection : projections) {
+            responseCache.invalidate(projection.latitude(), projection.longitude(), projection.category());
+        }
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof DataAccessResourceFailureException || e instanceof TransientDataAccessException;
+    }
+
+    private static GeoOutboxEvent.Type combine(GeoOutboxEvent.Type previous, GeoOutboxEvent.Type next) {
+        if (next == GeoOutboxEvent.Type.DELETE) {
+            return next;
+        }
+        return previous == GeoOutboxEvent.Type.REINDEX ? previous : next;
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdown();
+    }
+}
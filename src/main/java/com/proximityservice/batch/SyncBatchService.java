@@ -1,32 +1,73 @@
 package com.proximityservice.batch;
 
-import com.proximityservice.domain.Business;
+import com.proximityservice.domain.GeoOutboxEvent;
+import com.proximityservice.dto.BusinessSearchProjection;
 import com.proximityservice.dto.SyncBatchResult;
-import com.proximityservice.repository.BusinessGeoRepository;
+import com.proximityservice.geo.GeoEntry;
+import com.proximityservice.geo.GeoIndex;
+import com.proximityservice.geo.GeoMemberBatch;
+import com.proximityservice.geo.GeohashGrid;
+import com.proximityservice.geo.ShadowRebuild;
+import com.proximityservice.repository.BusinessProjectionRepository;
 import com.proximityservice.repository.BusinessRepository;
+import com.proximityservice.repository.GeoOutboxRepository;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
-import lombok.RequiredArgsConstructor;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.geo.Point;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class SyncBatchService {
 
-    private static final int CHUNK_SIZE = 500;
+    private static final int SHADOW_SAMPLE_SIZE = 100;
+    private static final double POSITION_TOLERANCE_METERS = 1.0;
 
     private final BusinessRepository businessRepository;
-    private final BusinessGeoRepository geoRepository;
+    private final GeoIndex geoIndex;
+    private final BusinessProjectionRepository projectionRepository;
+    private final GeoOutboxRepository outboxRepository;
+    private final GeoOutboxRelay outboxRelay;
+    private final int workers;
+    private final int partitions;
+    private final int pageSize;
 
     private final AtomicBoolean running = new AtomicBoolean(false);
 
+    public SyncBatchService(BusinessRepository businessRepository,
+                            GeoIndex geoIndex,
+                            BusinessProjectionRepository projectionRepository,
+                            GeoOutboxRepository outboxRepository,
+                            GeoOutboxRelay outboxRelay,
+                            @Value("${proximity.sync.workers:0}") int workers,
+                            @Value("${proximity.sync.partitions:64}") int partitions,
+                            @Value("${proximity.sync.page-size:2000}") int pageSize) {
+        this.businessRepository = businessRepository;
+        this.geoIndex = geoIndex;
+        this.projectionRepository = projectionRepository;
+        this.outboxRepository = outboxRepository;
+        this.outboxRelay = outboxRelay;
+        this.workers = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.partitions = partitions;
+        this.pageSize = pageSize;
+    }
+
     public SyncBatchResult fullSync() {
         if (!running.compareAndSet(false, true)) {
             throw new IllegalStateException("A batch job is already running");
@@ -34,45 +75,47 @@ public class SyncBatchService {
 
         LocalDateTime startedAt = LocalDateTime.now();
         long startMs = System.currentTimeMillis();
-        int totalProcessed = 0;
-        int added = 0;
-        int errors = 0;
+        Progress progress = new Progress();
+        ShadowRebuild shadow = null;
 
         try {
-            geoRepository.deleteAll();
-
-            int page = 0;
-            Page<Business> chunk;
-            do {
-                chunk = businessRepository.findAll(PageRequest.of(page, CHUNK_SIZE));
-                for (Business business : chunk.getContent()) {
-                    try {
-                        geoRepository.add(business.getId(), business.getLongitude(), business.getLatitude());
-                        added++;
-                    } catch (Exception e) {
-                        errors++;
-                        log.error("Failed to sync business {} to Redis: {}", business.getId(), e.getMessage());
-                    }
-                    totalProcessed++;
+            shadow = geoIndex.beginShadowRebuild().orElse(null);
+            if (shadow == null) {
+                geoIndex.clear();
+            }
+
+            Optional<String> maxId = businessRepository.findMaxId();
+            if (maxId.isPresent()) {
+                syncRanges(IdRange.split(maxId.get(), partitions), shadow, progress);
+            }
+
+            if (shadow != null) {
+                if (progress.errors > 0) {
+                    throw new IllegalStateException("Shadow geo index is missing " + progress.errors
+                            + " businesses that failed to sync");
                 }
-                page++;
-            } while (chunk.hasNext());
+                verifyShadow(shadow, progress.sample);
+                shadow.swap();
+            }
 
-            String status = errors > 0 ? "PARTIAL_FAILURE" : "SUCCESS";
+            String status = progress.errors > 0 ? "PARTIAL_FAILURE" : "SUCCESS";
             long durationMs = System.currentTimeMillis() - startMs;
 
             SyncBatchResult result = new SyncBatchResult(
-                    "FULL_SYNC", status, totalProcessed, added, 0, errors,
+                    "FULL_SYNC", status, progress.totalProcessed, progress.added, 0, 0, 0, progress.errors,
                     startedAt, LocalDateTime.now(), durationMs);
 
             log.info("Full sync completed: {}", result);
             return result;
 
         } catch (Exception e) {
+            if (shadow != null) {
+                discardShadow(shadow);
+            }
             long durationMs = System.currentTimeMillis() - startMs;
             log.error("Full sync failed: {}", e.getMessage(), e);
             return new SyncBatchResult(
-                    "FULL_SYNC", "FAILED", totalProcessed, added, 0, errors + 1,
+                    "FULL_SYNC", "FAILED", progress.totalProcessed, progress.added, 0, 0, 0, progress.errors + 1,
                     startedAt, LocalDateTime.now(), durationMs);
         } finally {
             running.set(false);
@@ -86,60 +129,30 @@ public class SyncBatchService {
 
         LocalDateTime startedAt = LocalDateTime.now();
         long startMs = System.currentTimeMillis();
-        int added = 0;
-        int removed = 0;
-        int errors = 0;
+        Tally tally = new Tally();
 
         try {
-            Set<String> mysqlIds = new HashSet<>();
-            int page = 0;
-            Page<Business> chunk;
-            do {
-                chunk = businessRepository.findAll(PageRequest.of(page, CHUNK_SIZE));
-                for (Business b : chunk.getContent()) {
-                    mysqlIds.add(b.getId());
-                }
-                page++;
-            } while (chunk.hasNext());
-
-            Set<String> redisMembers = geoRepository.getAllMembers();
-
-            Set<String> missing = new HashSet<>(mysqlIds);
-            missing.removeAll(redisMembers);
-
-            Set<String> orphaned = new HashSet<>(redisMembers);
-            orphaned.removeAll(mysqlIds);
-
-            for (String id : missing) {
-                try {
-                    Business business = businessRepository.findById(id).orElse(null);
-                    if (business != null) {
-                        geoRepository.add(business.getId(), business.getLongitude(), business.getLatitude());
-                        added++;
-                    }
-                } catch (Exception e) {
-                    errors++;
-                    log.error("Failed to add missing business {} to Redis: {}", id, e.getMessage());
-                }
+            Optional<String> maxId = businessRepository.findMaxId();
+            if (maxId.isPresent()) {
+                forEachPage(new IdRange("", maxId.get()), page -> verifyPage(page, tally));
             }
+            geoIndex.scanMembers(pageSize, batch -> verifyMembers(batch, tally));
+            projectionRepository.scanIds(pageSize, ids -> removeOrphanedProjections(ids, tally));
+            outboxRelay.drain();
 
-            for (String id : orphaned) {
-                try {
-                    geoRepository.remove(id);
-                    removed++;
-                } catch (Exception e) {
-                    errors++;
-                    log.error("Failed to remove orphaned business {} from Redis: {}", id, e.getMessage());
-                }
+            if (tally.categoryRepaired > 0) {
+                log.info("Repaired {} category geo index entries", tally.categoryRepaired);
+            }
+            if (tally.shardRepaired > 0) {
+                log.info("Moved {} geo index entries to their expected shard", tally.shardRepaired);
             }
 
-            int totalProcessed = mysqlIds.size() + orphaned.size();
-            String status = errors > 0 ? "PARTIAL_FAILURE" : "SUCCESS";
+            String status = tally.errors > 0 ? "PARTIAL_FAILURE" : "SUCCESS";
             long durationMs = System.currentTimeMillis() - startMs;
 
             SyncBatchResult result = new SyncBatchResult(
-                    "CONSISTENCY_CHECK", status, totalProcessed, added, removed, errors,
-                    startedAt, LocalDateTime.now(), durationMs);
+                    "CONSISTENCY_CHECK", status, tally.processed, tally.added, tally.removed, tally.drifted,
+                    tally.projectionsRepaired, tally.errors, startedAt, LocalDateTime.now(), durationMs);
 
             log.info("Consistency check completed: {}", result);
             return result;
@@ -148,10 +161,274 @@ public class SyncBatchService {
             long durationMs = System.currentTimeMillis() - startMs;
             log.error("Consistency check failed: {}", e.getMessage(), e);
             return new SyncBatchResult(
-                    "CONSISTENCY_CHECK", "FAILED", 0, added, removed, errors + 1,
-                    startedAt, LocalDateTime.now(), durationMs);
+                    "CONSISTENCY_CHECK", "FAILED", 0, tally.added, tally.removed, tally.drifted,
+                    tally.projectionsRepaired, tally.errors + 1, startedAt, LocalDateTime.now(), durationMs);
         } finally {
             running.set(false);
         }
     }
+
+    private void verifyPage(List<BusinessSearchProjection> page, Tally tally) {
+        tally.processed += page.size();
+        try {
+            tally.projectionsRepaired += repairProjections(page);
+        } catch (Exception e) {
+            tally.errors++;
+            log.error("Failed to verify projections from {}: {}", page.get(0).id(), e.getMessage());
+        }
+
+        try {
+            Map<String, Point> positions =
+                    geoIndex.positions(page.stream().map(BusinessSearchProjection::id).toList());
+            Set<String> missing = new HashSet<>();
+            Set<String> drifted = new HashSet<>();
+            Map<String, List<String>> idsByCategory = new HashMap<>();
+            for (BusinessSearchProjection business : page) {
+                Point point = positions.get(business.id());
+                if (point == null) {
+                    missing.add(business.id());
+                    continue;
+                }
+                if (GeohashGrid.distanceMeters(business.latitude(), business.longitude(),
+                        point.getY(), point.getX()) > POSITION_TOLERANCE_METERS) {
+                    drifted.add(business.id());
+                }
+                idsByCategory.computeIfAbsent(business.category(), k -> new ArrayList<>()).add(business.id());
+            }
+            Set<String> uncategorized = new HashSet<>();
+            idsByCategory.forEach((category, ids) -> {
+                Set<String> inCategory = geoIndex.indexed(ids, category);
+                ids.stream().filter(id -> !inCategory.contains(id)).forEach(uncategorized::add);
+            });
+
+            List<String> stale = page.stream()
+                    .map(BusinessSearchProjection::id)
+                    .filter(id -> missing.contains(id) || drifted.contains(id) || uncategorized.contains(id))
+                    .toList();
+            if (!stale.isEmpty()) {
+                outboxRelay.publishAll(stale, GeoOutboxEvent.Type.REINDEX);
+                tally.added += missing.size();
+                tally.drifted += drifted.size();
+                tally.categoryRepaired += uncategorized.size();
+            }
+        } catch (Exception e) {
+            tally.errors += page.size();
+            log.error("Failed to verify {} businesses against the geo index: {}", page.size(), e.getMessage());
+        }
+    }
+
+    private void verifyMembers(GeoMemberBatch batch, Tally tally) {
+        try {
+            Map<String, BusinessSearchProjection> current = new HashMap<>();
+            businessRepository.findSearchProjectionsByIdIn(batch.ids())
+                    .forEach(business -> current.put(business.id(), business));
+
+            List<String> orphaned = new ArrayList<>();
+            List<String> misplaced = new ArrayList<>();
+            List<String> moved = new ArrayList<>();
+            for (String id : batch.ids()) {
+                BusinessSearchProjection business = current.get(id);
+                if (business == null) {
+                    orphaned.add(id);
+                } else if (batch.category() != null && !batch.category().equals(business.category())) {
+                    misplaced.add(id);
+                } else if (batch.shard() != null
+                        && !batch.shard().equals(geoIndex.shardOf(business.longitude(), business.latitude()))) {
+                    moved.add(id);
+                }
+            }
+
+            if (!moved.isEmpty()) {
+                geoIndex.removeAll(moved, batch.shard());
+            }
+            List<String> repairs = new ArrayList<>(orphaned);
+            repairs.addAll(misplaced);
+            repairs.addAll(moved);
+            if (!repairs.isEmpty()) {
+                outboxRelay.publishAll(repairs, GeoOutboxEvent.Type.REINDEX);
+            }
+            if (batch.category() == null) {
+                tally.removed += orphaned.size();
+                tally.processed += orphaned.size();
+            } else {
+                tally.categoryRepaired += orphaned.size();
+            }
+            tally.categoryRepaired += misplaced.size();
+            tally.shardRepaired += moved.size();
+        } catch (Exception e) {
+            tally.errors += batch.ids().size();
+            log.error("Failed to verify {} geo index members: {}", batch.ids().size(), e.getMessage());
+        }
+    }
+
+    private void removeOrphanedProjections(List<String> ids, Tally tally) {
+        try {
+            Set<String> existing = new HashSet<>(businessRepository.findExistingIds(ids));
+            List<String> orphaned = ids.stream().filter(id -> !existing.contains(id)).toList();
+            projectionRepository.deleteAll(orphaned);
+            tally.projectionsRepaired += orphaned.size();
+        } catch (Exception e) {
+            tally.errors++;
+            log.error("Failed to remove orphaned projections: {}", e.getMessage());
+        }
+    }
+
+    private void verifyShadow(ShadowRebuild shadow, List<String> sample) {
+        long pending = outboxRepository.count();
+        long expected = businessRepository.count();
+        long indexed = shadow.size();
+        if (Math.abs(indexed - expected) > pending) {
+            throw new IllegalStateException("Shadow geo index has " + indexed + " members but MySQL has "
+                    + expected + " businesses (" + pending + " outbox events pending)");
+        }
+
+        Map<String, Point> positions = shadow.positions(sample);
+        int mismatched = 0;
+        for (BusinessSearchProjection business : businessRepository.findSearchProjectionsByIdIn(sample)) {
+            Point point = positions.get(business.id());
+            if (point == null || GeohashGrid.distanceMeters(business.latitude(), business.longitude(),
+                    point.getY(), point.getX()) > POSITION_TOLERANCE_METERS) {
+                mismatched++;
+            }
+        }
+        if (mismatched > pending) {
+            throw new IllegalStateException("Shadow geo index disagrees with MySQL for " + mismatched + " of "
+                    + sample.size() + " sampled businesses");
+        }
+    }
+
+    private void discardShadow(ShadowRebuild shadow) {
+        try {
+            shadow.discard();
+        } catch (Exception e) {
+            log.error("Failed to discard shadow geo index: {}", e.getMessage());
+        }
+    }
+
+    private int repairProjections(List<BusinessSearchProjection> expected) {
+        List<String> ids = expected.stream()
+                .map(BusinessSearchProjection::id)
+                .toList();
+        Map<String, BusinessSearchProjection> stored = projectionRepository.findAll(ids);
+
+        List<BusinessSearchProjection> stale = expected.stream()
+                .filter(projection -> !projection.equals(stored.get(projection.id())))
+                .toList();
+        projectionRepository.saveAll(stale);
+        return stale.size();
+    }
+
+    private void syncRanges(List<IdRange> ranges, ShadowRebuild shadow, Progress progress) throws Exception {
+        int poolSize = Math.min(workers, ranges.size());
+        try (ExecutorService pool = Executors.newFixedThreadPool(
+                poolSize, Thread.ofPlatform().name("sync-worker-", 0).factory())) {
+            List<Future<?>> futures = ranges.stream()
+                    .<Future<?>>map(range -> pool.submit(
+                            () -> forEachPage(range, page -> syncPage(page, shadow, progress))))
+                    .toList();
+            try {
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (ExecutionException e) {
+                pool.shutdownNow();
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+    }
+
+    private void syncPage(List<BusinessSearchProjection> page, ShadowRebuild shadow, Progress progress) {
+        int added = 0;
+        int errors = 0;
+        try {
+            List<GeoEntry> entries = page.stream().map(BusinessSearchProjection::toGeoEntry).toList();
+            if (shadow != null) {
+                shadow.addAll(entries);
+            } else {
+                geoIndex.addAll(entries);
+            }
+            added = page.size();
+        } catch (Exception e) {
+            errors += page.size();
+            log.error("Failed to sync {} businesses to Redis: {}", page.size(), e.getMessage());
+        }
+        try {
+            projectionRepository.saveAll(page);
+        } catch (Exception e) {
+            errors += page.size();
+            log.error("Failed to sync {} projections to Redis: {}", page.size(), e.getMessage());
+        }
+        progress.record(page, added, errors);
+    }
+
+    private void forEachPage(IdRange range, Consumer<List<BusinessSearchProjection>> action) {
+        String after = range.after();
+        List<BusinessSearchProjection> page;
+        do {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            page = businessRepository.findSearchProjectionsAfter(after, range.upTo(), Limit.of(pageSize));
+            if (page.isEmpty()) {
+                return;
+            }
+            action.accept(page);
+            after = page.get(page.size() - 1).id();
+        } while (page.size() == pageSize);
+    }
+
+    private record IdRange(String after, String upTo) {
+
+        static List<IdRange> split(String maxId, int partitions) {
+            int count = Math.clamp(partitions, 1, 256);
+            List<IdRange> ranges = new ArrayList<>(count);
+            String after = "";
+            for (int i = 1; i < count; i++) {
+                String boundary = String.format("%02x", i * 256 / count);
+                if (boundary.compareTo(maxId) >= 0) {
+                    break;
+                }
+                ranges.add(new IdRange(after, boundary));
+                after = boundary;
+            }
+            ranges.add(new IdRange(after, maxId));
+            return ranges;
+        }
+    }
+
+    private static final class Progress {
+
+        private final List<String> sample = new ArrayList<>(SHADOW_SAMPLE_SIZE);
+        private int totalProcessed;
+        private int added;
+        private int errors;
+
+        synchronized void record(List<BusinessSearchProjection> page, int pageAdded, int pageErrors) {
+            added += pageAdded;
+            errors += pageErrors;
+            for (BusinessSearchProjection business : page) {
+                totalProcessed++;
+                if (sample.size() < SHADOW_SAMPLE_SIZE) {
+                    sample.add(business.id());
+                } else {
+                    int slot = ThreadLocalRandom.current().nextInt(totalProcessed);
+                    if (slot < SHADOW_SAMPLE_SIZE) {
+                        sample.set(slot, business.id());
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Tally {
+
+        private int processed;
+        private int added;
+        private int removed;
+        private int drifted;
+        private int projectionsRepaired;
+        private int categoryRepaired;
+        private int shardRepaired;
+        private int errors;
+    }
 }
@@ -0,0 +1,95 @@
+package com.proximityservice.config;
+
+import com.proximityservice.exception.BackendBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class BulkheadAspect {
+
+    private final Bulkhead mysql;
+    private final Bulkhead redis;
+
+    public BulkheadAspect(MeterRegistry meterRegistry,
+                          @Value("${proximity.bulkhead.mysql.max-concurrent:40}") int mysqlPermits,
+                          @Value("${proximity.bulkhead.redis.max-concurrent:256}") int redisPermits,
+                          @Value("${proximity.bulkhead.acquire-timeout:200ms}") Duration acquireTimeout) {
+        this.mysql = new Bulkhead("mysql", mysqlPermits, acquireTimeout, meterRegistry);
+        this.redis = new Bulkhead("redis", redisPermits, acquireTimeout, meterRegistry);
+    }
+
+    @Around("this(com.proximityservice.repository.BusinessRepository)"
+            + " || within(com.proximityservice.geo.MySqlSpatialGeoIndex)"
+            + " || (within(com.proximityservice..*)"
+            + " && @annotation(org.springframework.transaction.annotation.Transactional))")
+    public Object aroundMysql(ProceedingJoinPoint joinPoint) throws Throwable {
+        return mysql.execute(joinPoint);
+    }
+
+    @Around("within(com.proximityservice.repository.BusinessGeoRepository)"
+            + " || within(com.proximityservice.repository.ShardedBusinessGeoRepository)"
+            + " || within(com.proximityservice.repository.BusinessProjectionRepository)")
+    public Object aroundRedis(ProceedingJoinPoint joinPoint) throws Throwable {
+        return redis.execute(joinPoint);
+    }
+
+    static final class Bulkhead {
+
+        private final String backend;
+        private final Semaphore permits;
+        private final long timeoutNanos;
+        private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+        private final Counter rejected;
+
+        Bulkhead(String backend, int maxConcurrent, Duration acquireTimeout, MeterRegistry meterRegistry) {
+            this.backend = backend;
+            this.permits = new Semaphore(maxConcurrent, true);
+            this.timeoutNanos = acquireTimeout.toNanos();
+            this.rejected = Counter.builder("bulkhead.rejected")
+                    .description("Calls rejected because the backend bulkhead was full")
+                    .tag("backend", backend)
+                    .register(meterRegistry);
+            Gauge.builder("bulkhead.available", permits, Semaphore::availablePermits)
+                    .description("Free bulkhead permits")
+                    .tag("backend", backend)
+                    .register(meterRegistry);
+        }
+
+        Object execute(ProceedingJoinPoint joinPoint) throws Throwable {
+            int[] held = depth.get();
+            if (held[0] > 0) {
+                held[0]++;
+                try {
+                    return joinPoint.proceed();
+                } finally {
+                    held[0]--;
+                }
+            }
+
+            if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new BackendBusyException(backend);
+            }
+            held[0]++;
+            try {
+                return joinPoint.proceed();
+            } finally {
+                held[0]--;
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.proximityservice.config;
+
+import com.proximityservice.exception.CircuitOpenException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+public class CircuitBreakers implements HealthIndicator {
+
+    private final CircuitBreaker mysql;
+    private final CircuitBreaker redis;
+
+    @Autowired
+    public CircuitBreakers(MeterRegistry meterRegistry,
+                           @Value("${proximity.circuit-breaker.sliding-window:20}") int slidingWindow,
+                           @Value("${proximity.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                           @Value("${proximity.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+                           @Value("${proximity.circuit-breaker.slow-call-duration:500ms}") Duration slowCallDuration,
+                           @Value("${proximity.circuit-breaker.open-duration:5s}") Duration openDuration,
+                           @Value("${proximity.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+        this(meterRegistry, new Settings(slidingWindow, minimumCalls, failureRateThreshold,
+                slowCallDuration, openDuration, halfOpenCalls));
+    }
+
+    public CircuitBreakers(MeterRegistry meterRegistry, Settings settings) {
+        this.mysql = new CircuitBreaker("mysql", settings, meterRegistry, System::nanoTime);
+        this.redis = new CircuitBreaker("redis", settings, meterRegistry, System::nanoTime);
+    }
+
+    public CircuitBreaker mysql() {
+        return mysql;
+    }
+
+    public CircuitBreaker redis() {
+        return redis;
+    }
+
+    @Override
+    public Health health() {
+        return Health.up()
+                .withDetail("mysql", mysql.state())
+                .withDetail("redis", redis.state())
+                .build();
+    }
+
+    public record Settings(
+            int slidingWindow,
+            int minimumCalls,
+            int failureRateThreshold,
+            Duration slowCallDuration,
+            Duration openDuration,
+            int halfOpenCalls
+    ) {
+        public static final Settings DEFAULTS =
+                new Settings(20, 10, 50, Duration.ofMillis(500), Duration.ofSeconds(5), 3);
+    }
+
+    @Slf4j
+    public static final class CircuitBreaker {
+
+        public enum State {
+            CLOSED, HALF_OPEN, OPEN
+        }
+
+        private final String backend;
+        private final Settings settings;
+        private final MeterRegistry meterRegistry;
+        private final LongSupplier clock;
+        private final boolean[] window;
+        private final Counter notPermitted;
+
+        private volatile State state = State.CLOSED;
+        private int next;
+        private int recorded;
+        private int failures;
+        private long openedAtNanos;
+        private int trialsStarted;
+        private int trialsSucceeded;
+
+        CircuitBreaker(String backend, Settings settings, MeterRegistry meterRegistry, LongSupplier clock) {
+            this.backend = backend;
+            this.settings = settings;
+            this.meterRegistry = meterRegistry;
+            this.clock = clock;
+            this.window = new boolean[settings.slidingWindow()];
+            this.notPermitted = Counter.builder("circuit.breaker.not.permitted")
+                    .description("Calls rejected without reaching the backend because the breaker was open")
+                    .tag("backend", backend)
+                    .register(meterRegistry);
+            Gauge.builder("circuit.breaker.state", this, breaker -> breaker.state.ordinal())
+                    .description("Breaker state: 0 closed, 1 half-open, 2 open")
+                    .tag("backend", backend)
+                    .register(meterRegistry);
+        }
+
+        public <T> T execute(Supplier<T> call) {
+            boolean trial = acquire();
+            long start = clock.getAsLong();
+            T result;
+            try {
+                result = call.get();
+            } catch (DataAccessResourceFailureException | TransientDataAccessException e) {
+                record(trial, true);
+                throw e;
+            } catch (RuntimeException e) {
+                release(trial);
+                throw e;
+            }
+            record(trial, clock.getAsLong() - start >= settings.slowCallDuration().toNanos());
+            return result;
+        }
+
+        public <T> Mono<T> execute(Mono<T> call) {
+            return Mono.defer(() -> {
+                boolean trial = acquire();
+                long start = clock.getAsLong();
+                return call
+                        .doOnSuccess(result -> record(trial,
+                                clock.getAsLong() - start >= settings.slowCallDuration().toNanos()))
+                        .doOnError(e -> {
+                            if (e instanceof DataAccessResourceFailureException
+                                    || e instanceof TransientDataAccessException) {
+                                record(trial, true);
+                            } else {
+                                release(trial);
+                            }
+                        })
+                        .doOnCancel(() -> release(trial));
+            });
+        }
+
+        public State state() {
+            return state;
+        }
+
+        private synchronized boolean acquire() {
+            if (state == State.OPEN) {
+                if (clock.getAsLong() - openedAtNanos < settings.openDuration().toNanos()) {
+                    notPermitted.increment();
+                    throw new CircuitOpenException(backend);
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.CLOSED) {
+                return false;
+            }
+            if (trialsStarted >= settings.halfOpenCalls()) {
+                notPermitted.increment();
+                throw new CircuitOpenException(backend);
+            }
+            trialsStarted++;
+            return true;
+        }
+
+        private synchronized void release(boolean trial) {
+            if (trial && state == State.HALF_OPEN) {
+                trialsStarted--;
+            }
+        }
+
+        private synchronized void record(boolean trial, boolean failure) {
+            if (trial) {
+                if (state != State.HALF_OPEN) {
+                    return;
+                }
+                if (failure) {
+                    transitionTo(State.OPEN);
+                } else if (++trialsSucceeded >= settings.halfOpenCalls()) {
+                    transitionTo(State.CLOSED);
+                }
+                return;
+            }
+            if (state != State.CLOSED) {
+                return;
+            }
+            if (recorded == window.length) {
+                failures -= window[next] ? 1 : 0;
+            } else {
+                recorded++;
+            }
+            window[next] = failure;
+            failures += failure ? 1 : 0;
+            next = (next + 1) % window.length;
+            if (recorded >= settings.minimumCalls()
+                    && failures * 100 >= settings.failureRateThreshold() * recorded) {
+                transitionTo(State.OPEN);
+            }
+        }
+
+        private void transitionTo(State target) {
+            State from = state;
+            state = target;
+            switch (target) {
+                case OPEN -> openedAtNanos = clock.getAsLong();
+                case HALF_OPEN -> {
+                    trialsStarted = 0;
+                    trialsSucceeded = 0;
+                }
+                case CLOSED -> {
+                    next = 0;
+                    recorded = 0;
+                    failures = 0;
+                }
+            }
+            meterRegistry.counter("circuit.breaker.transitions",
+                    "backend", backend, "from", from.name(), "to", target.name()).increment();
+            log.warn("Circuit breaker for {} moved from {} to {}", backend, from, target);
+        }
+    }
+}
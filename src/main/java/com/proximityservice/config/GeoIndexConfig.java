@@ -0,0 +1,46 @@
+package com.proximityservice.config;
+
+import com.proximityservice.geo.GeoIndex;
+import com.proximityservice.geo.InMemoryGeoIndex;
+import com.proximityservice.geo.MySqlSpatialGeoIndex;
+import com.proximityservice.geo.RedisGeoIndex;
+import com.proximityservice.geo.ShardedRedisGeoIndex;
+import com.proximityservice.repository.BusinessGeoRepository;
+import com.proximityservice.repository.BusinessRepository;
+import com.proximityservice.repository.ShardedBusinessGeoRepository;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class GeoIndexConfig {
+
+    @Bean
+    @Primary
+    public GeoIndex geoIndex(@Value("${proximity.geo.engine:redis}") String engine,
+                             @Value("${proximity.geo.memory.cell-bits:13}") int cellBits,
+                             @Value("${proximity.geo.redis.shard-precision:5}") int shardPrecision,
+                             @Value("${proximity.search.fallback.max-execution:1s}") Duration maxExecution,
+                             BusinessGeoRepository geoRepository,
+                             ShardedBusinessGeoRepository shardedGeoRepository,
+                             BusinessRepository businessRepository,
+                             JdbcTemplate jdbcTemplate) {
+        return switch (engine) {
+            case "redis" -> new RedisGeoIndex(geoRepository);
+            case "redis-sharded" -> new ShardedRedisGeoIndex(shardedGeoRepository, shardPrecision);
+            case "memory" -> new InMemoryGeoIndex(businessRepository, cellBits);
+            case "mysql" -> new MySqlSpatialGeoIndex(jdbcTemplate, maxExecution);
+            default -> throw new IllegalStateException("Unknown proximity.geo.engine: " + engine);
+        };
+    }
+
+    @Bean
+    public MySqlSpatialGeoIndex fallbackGeoIndex(
+            @Value("${proximity.search.fallback.max-execution:1s}") Duration maxExecution,
+            JdbcTemplate jdbcTemplate) {
+        return new MySqlSpatialGeoIndex(jdbcTemplate, maxExecution);
+    }
+}
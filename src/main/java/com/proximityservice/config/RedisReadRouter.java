@@ -0,0 +1,103 @@
+package com.proximityservice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RedisReadRouter implements DisposableBean {
+
+    private static final String HEARTBEAT_KEY = "replication:heartbeat";
+
+    private final StringRedisTemplate primary;
+    private final LettuceConnectionFactory replicaConnectionFactory;
+    private final StringRedisTemplate replica;
+    private final long maxStalenessMillis;
+    private final Counter fallbacks;
+
+    private volatile long stalenessMillis = Long.MAX_VALUE;
+    private volatile boolean replicaUsable;
+
+    public RedisReadRouter(StringRedisTemplate primary,
+                           MeterRegistry meterRegistry,
+                           @Value("${proximity.redis.replica.host:}") String replicaHost,
+                           @Value("${proximity.redis.replica.port:6379}") int replicaPort,
+                           @Value("${proximity.redis.replica.max-staleness:2s}") Duration maxStaleness) {
+        this.primary = primary;
+        this.maxStalenessMillis = maxStaleness.toMillis();
+        if (replicaHost.isBlank()) {
+            this.replicaConnectionFactory = null;
+            this.replica = null;
+        } else {
+            this.replicaConnectionFactory = new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration(replicaHost, replicaPort));
+            this.replicaConnectionFactory.afterPropertiesSet();
+            this.replicaConnectionFactory.start();
+            this.replica = new StringRedisTemplate(replicaConnectionFactory);
+        }
+
+        this.fallbacks = Counter.builder("redis.read.fallback")
+                .description("Replica reads that failed and were retried on the primary")
+                .register(meterRegistry);
+        Gauge.builder("redis.replica.staleness", this, router -> router.replica == null
+                        ? 0 : Math.min(router.stalenessMillis, Integer.MAX_VALUE))
+                .description("Age of the newest primary heartbeat visible on the replica")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("redis.replica.routed", this, router -> router.replicaUsable ? 1 : 0)
+                .description("1 while searches are served by the replica")
+                .register(meterRegistry);
+    }
+
+    public <T> T read(Function<StringRedisTemplate, T> action) {
+        if (!replicaUsable) {
+            return action.apply(primary);
+        }
+        try {
+            return action.apply(replica);
+        } catch (RedisConnectionFailureException | QueryTimeoutException e) {
+            replicaUsable = false;
+            fallbacks.increment();
+            return action.apply(primary);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${proximity.redis.replica.heartbeat-interval:500ms}")
+    public void checkReplica() {
+        if (replica == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        try {
+            String seen = replica.opsForValue().get(HEARTBEAT_KEY);
+            stalenessMillis = seen != null ? now - Long.parseLong(seen) : Long.MAX_VALUE;
+            primary.opsForValue().set(HEARTBEAT_KEY, Long.toString(now));
+        } catch (DataAccessException e) {
+            stalenessMillis = Long.MAX_VALUE;
+        }
+        replicaUsable = stalenessMillis <= maxStalenessMillis;
+    }
+
+    boolean replicaUsable() {
+        return replicaUsable;
+    }
+
+    @Override
+    public void destroy() {
+        if (replicaConnectionFactory != null) {
+            replicaConnectionFactory.destroy();
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package com.proximityservice.config;
 
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
-@EnableRetry
-public class RetryConfig {
+@EnableScheduling
+public class SchedulingConfig {
 }
@@ -27,8 +27,7 @@ public class BusinessController {
 
     @GetMapping("/{id}")
     public ResponseEntity<BusinessDetailResponse> getBusiness(@PathVariable String id) {
-        Business business = businessService.getById(id);
-        return ResponseEntity.ok(BusinessDetailResponse.from(business));
+        return ResponseEntity.ok(businessService.getDetail(id));
     }
 
     @PostMapping
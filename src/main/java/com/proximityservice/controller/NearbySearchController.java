@@ -1,42 +1,187 @@
 package com.proximityservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proximityservice.domain.Category;
+import com.proximityservice.dto.BusinessSearchResult;
+import com.proximityservice.dto.NearbySearchBatchRequest;
+import com.proximityservice.dto.NearbySearchBatchResponse;
 import com.proximityservice.dto.NearbySearchResponse;
 import com.proximityservice.exception.InvalidParameterException;
+import com.proximityservice.geo.GeoCursor;
 import com.proximityservice.service.NearbySearchService;
+import com.proximityservice.service.NearestSearchService;
+import com.proximityservice.service.ReactiveNearbySearchService;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequiredArgsConstructor
 public class NearbySearchController {
 
+    private static final int MAX_LIMIT = 50;
+    private static final int MAX_STREAM_LIMIT = 1000;
+    private static final int STREAM_BATCH_SIZE = 16;
+
     private final NearbySearchService searchService;
+    private final NearestSearchService nearestSearchService;
+    private final ReactiveNearbySearchService reactiveSearchService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/v1/search/nearby")
     public ResponseEntity<NearbySearchResponse> searchNearby(
             @RequestParam double latitude,
             @RequestParam double longitude,
             @RequestParam(defaultValue = "5000") int radius,
-            @RequestParam(defaultValue = "20") int limit) {
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) String cursor) {
 
-        validateParameters(latitude, longitude, radius, limit);
+        List<String> categories = category != null ? category : List.of();
+        validateParameters(latitude, longitude, radius, limit, MAX_LIMIT);
+        validateCategories(categories);
+        GeoCursor after = cursor != null ? parseCursor(cursor) : null;
 
-        NearbySearchResponse response = searchService.searchNearby(latitude, longitude, radius, limit);
+        NearbySearchResponse response = searchService.searchNearby(
+                latitude, longitude, radius, limit, categories, after);
         return ResponseEntity.ok(response);
     }
 
-    private void validateParameters(double latitude, double longitude, int radius, int limit) {
-        if (limit < 1 || limit > 50) {
+    @GetMapping(value = "/v1/search/nearby", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamNearby(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "5000") int radius,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) String cursor) {
+
+        List<String> categories = category != null ? category : List.of();
+        validateParameters(latitude, longitude, radius, limit, MAX_STREAM_LIMIT);
+        validateCategories(categories);
+        GeoCursor after = cursor != null ? parseCursor(cursor) : null;
+
+        NearbySearchService.SearchPage page = searchService.findPage(
+                latitude, longitude, radius, limit, categories, after);
+        StreamingResponseBody body = out -> searchService.hydrate(page, STREAM_BATCH_SIZE, result -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(result));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON);
+        if (page.nextCursor() != null) {
+            response.header("X-Next-Cursor", page.nextCursor());
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/v1/search/nearby/reactive")
+    public Mono<NearbySearchResponse> searchNearbyReactive(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "5000") int radius,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) String cursor) {
+
+        List<String> categories = category != null ? category : List.of();
+        validateParameters(latitude, longitude, radius, limit, MAX_LIMIT);
+        validateCategories(categories);
+        GeoCursor after = cursor != null ? parseCursor(cursor) : null;
+
+        return reactiveSearchService.searchNearby(latitude, longitude, radius, limit, categories, after);
+    }
+
+    @GetMapping(value = "/v1/search/nearby/reactive", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<Flux<BusinessSearchResult>>> streamNearbyReactive(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "5000") int radius,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) String cursor) {
+
+        List<String> categories = category != null ? category : List.of();
+        validateParameters(latitude, longitude, radius, limit, MAX_STREAM_LIMIT);
+        validateCategories(categories);
+        GeoCursor after = cursor != null ? parseCursor(cursor) : null;
+
+        return reactiveSearchService.findPage(latitude, longitude, radius, limit, categories, after)
+                .map(page -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                            .contentType(MediaType.APPLICATION_NDJSON);
+                    if (page.nextCursor() != null) {
+                        response.header("X-Next-Cursor", page.nextCursor());
+                    }
+                    return response.body(reactiveSearchService.hydrate(page));
+                });
+    }
+
+    @PostMapping("/v1/search/nearby/batch")
+    public ResponseEntity<NearbySearchBatchResponse> searchBatch(
+            @RequestBody @Valid NearbySearchBatchRequest request) {
+
+        request.queries().forEach(point -> validateCategories(point.categoriesOrEmpty()));
+        return ResponseEntity.ok(searchService.searchBatch(request.queries()));
+    }
+
+    @GetMapping("/v1/search/knn")
+    public ResponseEntity<NearbySearchResponse> searchNearest(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "10") int k,
+            @RequestParam(required = false) List<String> category) {
+
+        List<String> categories = category != null ? category : List.of();
+        if (k < 1 || k > MAX_LIMIT) {
+            throw new InvalidParameterException(
+                    "k는 1에서 " + MAX_LIMIT + " 사이여야 합니다.",
+                    Map.of("field", "k", "valid_range", "1 ~ " + MAX_LIMIT, "received", k)
+            );
+        }
+        validateCoordinates(latitude, longitude);
+        validateCategories(categories);
+
+        return ResponseEntity.ok(nearestSearchService.searchNearest(latitude, longitude, k, categories));
+    }
+
+    private void validateParameters(double latitude, double longitude, int radius, int limit, int maxLimit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new InvalidParameterException(
+                    "결과 수 제한은 1에서 " + maxLimit + " 사이여야 합니다.",
+                    Map.of("field", "limit", "valid_range", "1 ~ " + maxLimit, "received", limit)
+            );
+        }
+        validateCoordinates(latitude, longitude);
+        if (radius < 1 || radius > 20000) {
             throw new InvalidParameterException(
-                    "결과 수 제한은 1에서 50 사이여야 합니다.",
-                    Map.of("field", "limit", "valid_range", "1 ~ 50", "received", limit)
+                    "검색 반경은 1에서 20000m 사이여야 합니다.",
+                    Map.of("field", "radius", "valid_range", "1 ~ 20000", "received", radius)
             );
         }
+    }
+
+    private void validateCoordinates(double latitude, double longitude) {
         if (latitude < -90 || latitude > 90) {
             throw new InvalidParameterException(
                     "위도는 -90에서 90 사이여야 합니다.",
@@ -49,10 +194,30 @@ public class NearbySearchController {
                     Map.of("field", "longitude", "valid_range", "-180 ~ 180", "received", longitude)
             );
         }
-        if (radius < 1 || radius > 20000) {
+    }
+
+    private void validateCategories(List<String> categories) {
+        for (String value : categories) {
+            try {
+                Category.fromValue(value);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidParameterException(
+                        "지원하지 않는 카테고리입니다.",
+                        Map.of("field", "category",
+                                "valid_values", Arrays.stream(Category.values()).map(Category::getValue).toList(),
+                                "received", value)
+                );
+            }
+        }
+    }
+
+    private GeoCursor parseCursor(String cursor) {
+        try {
+            return GeoCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
             throw new InvalidParameterException(
-                    "검색 반경은 1에서 20000m 사이여야 합니다.",
-                    Map.of("field", "radius", "valid_range", "1 ~ 20000", "received", radius)
+                    "페이지 커서가 올바르지 않습니다.",
+                    Map.of("field", "cursor", "received", cursor)
             );
         }
     }
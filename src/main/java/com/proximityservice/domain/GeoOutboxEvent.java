@@ -0,0 +1,52 @@
+package com.proximityservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+@Entity
+@Table(name = "geo_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GeoOutboxEvent {
+
+    public enum Type {
+        UPSERT, REINDEX, DELETE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "business_id", nullable = false, length = 36)
+    private String businessId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Type type;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+
+    public GeoOutboxEvent(String businessId, Type type) {
+        this.businessId = businessId;
+        this.type = type;
+    }
+}
@@ -0,0 +1,36 @@
+package com.proximityservice.dto;
+
+import com.proximityservice.domain.Business;
+import com.proximityservice.geo.GeoEntry;
+
+public record BusinessSearchProjection(
+        String id,
+        String name,
+        String address,
+        Double latitude,
+        Double longitude,
+        String category
+) {
+    public static BusinessSearchProjection from(Business business) {
+        return new BusinessSearchProjection(
+                business.getId(),
+                business.getName(),
+                business.getAddress(),
+                business.getLatitude(),
+                business.getLongitude(),
+                business.getCategory()
+        );
+    }
+
+    public GeoEntry toGeoEntry() {
+        return new GeoEntry(id, longitude, latitude, category);
+    }
+
+    public BusinessSearchResult toResult(double distanceM) {
+        return new BusinessSearchResult(id, name, address, latitude, longitude, distanceM, category);
+    }
+
+    public int estimatedBytes() {
+        return 96 + 2 * (id.length() + name.length() + address.length() + category.length());
+    }
+}
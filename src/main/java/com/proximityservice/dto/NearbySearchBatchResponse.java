@@ -0,0 +1,8 @@
+package com.proximityservice.dto;
+
+import java.util.List;
+
+public record NearbySearchBatchResponse(
+        List<NearbySearchResponse> results
+) {
+}
@@ -0,0 +1,28 @@
+package com.proximityservice.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+public record NearbySearchPoint(
+        @NotNull @DecimalMin("-90") @DecimalMax("90") Double latitude,
+        @NotNull @DecimalMin("-180") @DecimalMax("180") Double longitude,
+        @Min(1) @Max(20000) Integer radius,
+        @Min(1) @Max(50) Integer limit,
+        List<String> category
+) {
+    public int radiusOrDefault() {
+        return radius != null ? radius : 5000;
+    }
+
+    public int limitOrDefault() {
+        return limit != null ? limit : 20;
+    }
+
+    public List<String> categoriesOrEmpty() {
+        return category != null ? category : List.of();
+    }
+}
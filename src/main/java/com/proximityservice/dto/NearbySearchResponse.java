@@ -1,13 +1,19 @@
 package com.proximityservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 
 public record NearbySearchResponse(
         int total,
         List<BusinessSearchResult> businesses,
-        String message
+        String message,
+        @JsonProperty("next_cursor") String nextCursor
 ) {
     public NearbySearchResponse(int total, List<BusinessSearchResult> businesses) {
-        this(total, businesses, null);
+        this(total, businesses, null, null);
+    }
+
+    public NearbySearchResponse(int total, List<BusinessSearchResult> businesses, String message) {
+        this(total, businesses, message, null);
     }
 }
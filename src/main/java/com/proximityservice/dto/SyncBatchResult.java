@@ -9,6 +9,8 @@ public record SyncBatchResult(
         @JsonProperty("total_processed") int totalProcessed,
         int added,
         int removed,
+        int drifted,
+        @JsonProperty("projections_repaired") int projectionsRepaired,
         int errors,
         @JsonProperty("started_at") LocalDateTime startedAt,
         @JsonProperty("finished_at") LocalDateTime finishedAt,
@@ -0,0 +1,8 @@
+package com.proximityservice.exception;
+
+public class BackendBusyException extends RuntimeException {
+
+    public BackendBusyException(String backend) {
+        super("Too many concurrent requests to " + backend);
+    }
+}
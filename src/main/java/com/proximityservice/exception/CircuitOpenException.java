@@ -0,0 +1,8 @@
+package com.proximityservice.exception;
+
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException(String backend) {
+        super("Circuit breaker for " + backend + " is open");
+    }
+}
@@ -0,0 +1,48 @@
+package com.proximityservice.geo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record GeoCursor(
+        double distanceMeters,
+        String id
+) {
+    private static final char SEPARATOR = '|';
+
+    public static GeoCursor after(GeoHit hit) {
+        return new GeoCursor(hit.distanceMeters(), hit.id());
+    }
+
+    public static GeoCursor decode(String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == raw.length() - 1) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+        double distance;
+        try {
+            distance = Double.parseDouble(raw.substring(0, separator));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+        if (!Double.isFinite(distance) || distance < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+        return new GeoCursor(distance, raw.substring(separator + 1));
+    }
+
+    public String encode() {
+        String raw = Double.toString(distanceMeters) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean precedes(double distance, String candidateId) {
+        int c = Double.compare(distanceMeters, distance);
+        return c < 0 || (c == 0 && id.compareTo(candidateId) < 0);
+    }
+}
@@ -0,0 +1,15 @@
+package com.proximityservice.geo;
+
+import com.proximityservice.domain.Business;
+
+public record GeoEntry(
+        String id,
+        double longitude,
+        double latitude,
+        String category
+) {
+    public static GeoEntry from(Business business) {
+        return new GeoEntry(business.getId(), business.getLongitude(), business.getLatitude(),
+                business.getCategory());
+    }
+}
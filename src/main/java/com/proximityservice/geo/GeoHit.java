@@ -0,0 +1,13 @@
+package com.proximityservice.geo;
+
+import java.util.Comparator;
+
+public record GeoHit(
+        String id,
+        double distanceMeters,
+        double latitude,
+        double longitude
+) {
+    public static final Comparator<GeoHit> BY_DISTANCE =
+            Comparator.comparingDouble(GeoHit::distanceMeters).thenComparing(GeoHit::id);
+}
@@ -0,0 +1,58 @@
+package com.proximityservice.geo;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.data.geo.Point;
+
+public interface GeoIndex {
+
+    void add(String businessId, double longitude, double latitude, String category);
+
+    default void addAll(Collection<GeoEntry> entries) {
+        entries.forEach(entry -> add(entry.id(), entry.longitude(), entry.latitude(), entry.category()));
+    }
+
+    void remove(String businessId);
+
+    default void remove(String businessId, String shard) {
+        remove(businessId);
+    }
+
+    default void removeAll(Collection<String> businessIds) {
+        businessIds.forEach(this::remove);
+    }
+
+    default void removeAll(Collection<String> businessIds, String shard) {
+        businessIds.forEach(businessId -> remove(businessId, shard));
+    }
+
+    default Map<String, Point> positions(Collection<String> businessIds) {
+        return Map.of();
+    }
+
+    List<GeoHit> search(GeoQuery query);
+
+    default List<List<GeoHit>> searchAll(List<GeoQuery> queries) {
+        return queries.stream()
+                .map(this::search)
+                .toList();
+    }
+
+    Set<String> indexed(Collection<String> businessIds, String category);
+
+    void scanMembers(int batchSize, Consumer<GeoMemberBatch> consumer);
+
+    default String shardOf(double longitude, double latitude) {
+        return null;
+    }
+
+    void clear();
+
+    default Optional<ShadowRebuild> beginShadowRebuild() {
+        return Optional.empty();
+    }
+}
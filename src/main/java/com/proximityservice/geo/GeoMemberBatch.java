@@ -0,0 +1,21 @@
+package com.proximityservice.geo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+public record GeoMemberBatch(
+        String shard,
+        String category,
+        List<String> ids
+) {
+    static void split(String shard, String category, Collection<String> ids, int batchSize,
+                      Consumer<GeoMemberBatch> consumer) {
+        List<String> all = List.copyOf(ids);
+        for (int from = 0; from < all.size(); from += batchSize) {
+            consumer.accept(new GeoMemberBatch(shard, category,
+                    new ArrayList<>(all.subList(from, Math.min(from + batchSize, all.size())))));
+        }
+    }
+}
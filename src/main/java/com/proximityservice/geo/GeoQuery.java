@@ -0,0 +1,31 @@
+package com.proximityservice.geo;
+
+import java.util.Collection;
+import java.util.Set;
+
+public record GeoQuery(
+        double longitude,
+        double latitude,
+        double radiusMeters,
+        int limit,
+        Set<String> categories,
+        GeoCursor after
+) {
+    public GeoQuery {
+        categories = categories == null ? Set.of() : Set.copyOf(categories);
+    }
+
+    public static GeoQuery of(double longitude, double latitude, double radiusMeters, int limit) {
+        return new GeoQuery(longitude, latitude, radiusMeters, limit, Set.of(), null);
+    }
+
+    public static GeoQuery of(double longitude, double latitude, double radiusMeters, int limit,
+                              Collection<String> categories) {
+        return new GeoQuery(longitude, latitude, radiusMeters, limit, Set.copyOf(categories), null);
+    }
+
+    public static GeoQuery of(double longitude, double latitude, double radiusMeters, int limit,
+                              Collection<String> categories, GeoCursor after) {
+        return new GeoQuery(longitude, latitude, radiusMeters, limit, Set.copyOf(categories), after);
+    }
+}
@@ -0,0 +1,108 @@
+package com.proximityservice.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class GeohashCells {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final int MAX_PRECISION = 12;
+    private static final double EDGE_SLACK_M = 1.0;
+
+    private GeohashCells() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        checkPrecision(precision);
+        int lngBits = (5 * precision + 1) / 2;
+        int latBits = 5 * precision / 2;
+        return encodeCell(index(latitude + 90.0, 180.0, latBits), index(longitude + 180.0, 360.0, lngBits),
+                precision);
+    }
+
+    public static List<String> covering(double latitude, double longitude, double radiusMeters, int precision) {
+        checkPrecision(precision);
+        int lngBits = (5 * precision + 1) / 2;
+        int latBits = 5 * precision / 2;
+        double cellLat = 180.0 / (1L << latBits);
+        double cellLng = 360.0 / (1L << lngBits);
+        long lngCells = 1L << lngBits;
+
+        double dLat = radiusMeters / GeohashGrid.METERS_PER_DEGREE;
+        double minLat = Math.max(-90.0, latitude - dLat);
+        double maxLat = Math.min(90.0, latitude + dLat);
+        double cosLat = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        double dLng = cosLat > 1e-9 ? dLat / cosLat : 180.0;
+
+        long latFrom = index(minLat + 90.0, 180.0, latBits);
+        long latTo = index(maxLat + 90.0, 180.0, latBits);
+        long lngFrom;
+        long lngTo;
+        if (dLng >= 180.0) {
+            lngFrom = 0;
+            lngTo = lngCells - 1;
+        } else {
+            lngFrom = (long) Math.floor((longitude - dLng + 180.0) / cellLng);
+            lngTo = (long) Math.floor((longitude + dLng + 180.0) / cellLng);
+            if (lngTo - lngFrom >= lngCells) {
+                lngFrom = 0;
+                lngTo = lngCells - 1;
+            }
+        }
+
+        List<String> cells = new ArrayList<>();
+        for (long latIndex = latFrom; latIndex <= latTo; latIndex++) {
+            double south = latIndex * cellLat - 90.0;
+            double nearestLat = clamp(latitude, south, south + cellLat);
+            for (long lngIndex = lngFrom; lngIndex <= lngTo; lngIndex++) {
+                long wrapped = Math.floorMod(lngIndex, lngCells);
+                double west = lngIndex * cellLng - 180.0;
+                double nearestLng = clamp(longitude, west, west + cellLng);
+                double gap = GeohashGrid.distanceMeters(latitude, longitude, nearestLat, nearestLng);
+                if (gap <= radiusMeters + EDGE_SLACK_M) {
+                    cells.add(encodeCell(latIndex, wrapped, precision));
+                }
+            }
+        }
+        return cells;
+    }
+
+    private static String encodeCell(long latIndex, long lngIndex, int precision) {
+        int lngBits = (5 * precision + 1) / 2;
+        int latBits = 5 * precision / 2;
+        char[] hash = new char[precision];
+        int lngShift = lngBits;
+        int latShift = latBits;
+        for (int c = 0; c < precision; c++) {
+            int value = 0;
+            for (int b = 0; b < 5; b++) {
+                int bit = c * 5 + b;
+                long source;
+                if (bit % 2 == 0) {
+                    source = (lngIndex >> --lngShift) & 1;
+                } else {
+                    source = (latIndex >> --latShift) & 1;
+                }
+                value = (value << 1) | (int) source;
+            }
+            hash[c] = BASE32[value];
+        }
+        return new String(hash);
+    }
+
+    private static long index(double offset, double span, int bits) {
+        long cells = 1L << bits;
+        return Math.min(cells - 1, Math.max(0, (long) Math.floor(offset / span * cells)));
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(value, max));
+    }
+
+    private static void checkPrecision(int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(
+                    "precision must be between 1 and " + MAX_PRECISION + ": " + precision);
+        }
+    }
+}
@@ -0,0 +1,433 @@
+package com.proximityservice.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.data.geo.Point;
+
+public class GeohashGrid {
+
+    public static final int NO_CATEGORY = -1;
+
+    static final double EARTH_RADIUS_M = 6_372_797.560856;
+    static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_M / 180.0;
+
+    private static final double MICRO = 1_000_000.0;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int cellsPerAxis;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> slotsById = new HashMap<>();
+    private final Map<Long, Bucket> buckets = new HashMap<>();
+
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private int[] latE6 = new int[INITIAL_CAPACITY];
+    private int[] lngE6 = new int[INITIAL_CAPACITY];
+    private long[] cells = new long[INITIAL_CAPACITY];
+    private byte[] categories = new byte[INITIAL_CAPACITY];
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int nextSlot;
+
+    public GeohashGrid(int cellBits) {
+        if (cellBits < 1 || cellBits > 26) {
+            throw new IllegalArgumentException("cellBits must be between 1 and 26: " + cellBits);
+        }
+        this.cellsPerAxis = 1 << cellBits;
+    }
+
+    public void put(String id, double latitude, double longitude) {
+        put(id, latitude, longitude, NO_CATEGORY);
+    }
+
+    public void put(String id, double latitude, double longitude, int category) {
+        int lat = toMicro(latitude);
+        int lng = toMicro(longitude);
+        long cell = interleave(latCell(latitude), Math.min(lngCell(longitude), cellsPerAxis - 1));
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = slotsById.get(id);
+            int slot;
+            if (existing != null) {
+                slot = existing;
+                if (cells[slot] != cell) {
+                    detach(slot);
+                    bucketFor(cell).add(slot);
+                }
+            } else {
+                slot = allocateSlot();
+                ids[slot] = id;
+                slotsById.put(id, slot);
+                bucketFor(cell).add(slot);
+            }
+            latE6[slot] = lat;
+            lngE6[slot] = lng;
+            cells[slot] = cell;
+            categories[slot] = (byte) category;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.remove(id);
+            if (slot == null) {
+                return false;
+            }
+            detach(slot);
+            ids[slot] = null;
+            releaseSlot(slot);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(String id) {
+        lock.readLock().lock();
+        try {
+            return slotsById.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(String id, int category) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsById.get(id);
+            return slot != null && categories[slot] == category;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Point position(String id) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsById.get(id);
+            return slot != null ? new Point(lngE6[slot] / MICRO, latE6[slot] / MICRO) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<String> ids() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(slotsById.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<String> ids(int category) {
+        lock.readLock().lock();
+        try {
+            Set<String> ids = new HashSet<>();
+            for (Map.Entry<String, Integer> entry : slotsById.entrySet()) {
+                if (categories[entry.getValue()] == category) {
+                    ids.add(entry.getKey());
+                }
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<GeoHit> search(double latitude, double longitude, double radiusMeters, int limit) {
+        return search(latitude, longitude, radiusMeters, limit, 0);
+    }
+
+    public List<GeoHit> search(double latitude, double longitude, double radiusMeters, int limit,
+                               int categoryMask) {
+        return search(latitude, longitude, radiusMeters, limit, categoryMask, null);
+    }
+
+    public List<GeoHit> search(double latitude, double longitude, double radiusMeters, int limit,
+                               int categoryMask, GeoCursor after) {
+        if (limit <= 0 || radiusMeters < 0) {
+            return List.of();
+        }
+
+        double dLat = radiusMeters / METERS_PER_DEGREE;
+        double minLat = Math.max(-90.0, latitude - dLat);
+        double maxLat = Math.min(90.0, latitude + dLat);
+        double cosLat = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        double dLng = cosLat > 1e-9 ? dLat / cosLat : 360.0;
+
+        int latFrom = latCell(minLat);
+        int latTo = latCell(maxLat);
+        int lngFrom;
+        int lngSpan;
+        if (dLng >= 180.0) {
+            lngFrom = 0;
+            lngSpan = cellsPerAxis;
+        } else {
+            lngFrom = lngCell(longitude - dLng);
+            lngSpan = Math.min(lngCell(longitude + dLng) - lngFrom + 1, cellsPerAxis);
+        }
+
+        double originLat = Math.toRadians(latitude);
+        double originLng = Math.toRadians(longitude);
+        double cosOriginLat = Math.cos(originLat);
+
+        lock.readLock().lock();
+        try {
+            TopK top = new TopK(limit, ids);
+            long cellCount = (long) (latTo - latFrom + 1) * lngSpan;
+            if (cellCount > buckets.size()) {
+                for (Bucket bucket : buckets.values()) {
+                    scan(bucket, originLat, originLng, cosOriginLat, radiusMeters, categoryMask, after, top);
+                }
+            } else {
+                for (int la = latFrom; la <= latTo; la++) {
+                    for (int i = 0; i < lngSpan; i++) {
+                        Bucket bucket = buckets.get(interleave(la, Math.floorMod(lngFrom + i, cellsPerAxis)));
+                        if (bucket != null) {
+                            scan(bucket, originLat, originLng, cosOriginLat, radiusMeters, categoryMask, after, top);
+                        }
+                    }
+                }
+            }
+            return toHits(top);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void scan(Bucket bucket, double originLat, double originLng, double cosOriginLat,
+                      double radiusMeters, int categoryMask, GeoCursor after, TopK top) {
+        for (int j = 0; j < bucket.size; j++) {
+            int slot = bucket.slots[j];
+            if (categoryMask != 0 && (categories[slot] < 0 || (categoryMask & (1 << categories[slot])) == 0)) {
+                continue;
+            }
+            double distance = haversine(originLat, originLng, cosOriginLat, latE6[slot], lngE6[slot]);
+            if (distance <= radiusMeters && (after == null || after.precedes(distance, ids[slot]))) {
+                top.offer(distance, slot);
+            }
+        }
+    }
+
+    private List<GeoHit> toHits(TopK top) {
+        int count = top.size;
+        int[] slots = new int[count];
+        double[] distances = new double[count];
+        for (int i = count - 1; i >= 0; i--) {
+            slots[i] = top.slots[0];
+            distances[i] = top.distances[0];
+            top.pop();
+        }
+
+        List<GeoHit> hits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int slot = slots[i];
+            hits.add(new GeoHit(ids[slot], distances[i], latE6[slot] / MICRO, lngE6[slot] / MICRO));
+        }
+        return hits;
+    }
+
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double sinDLat = Math.sin(Math.toRadians(lat2 - lat1) / 2);
+        double sinDLng = Math.sin(Math.toRadians(lng2 - lng1) / 2);
+        double a = sinDLat * sinDLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinDLng * sinDLng;
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    static double haversine(double lat1, double lng1, double cosLat1, int latE6, int lngE6) {
+        double lat2 = Math.toRadians(latE6 / MICRO);
+        double lng2 = Math.toRadians(lngE6 / MICRO);
+        double sinDLat = Math.sin((lat2 - lat1) / 2);
+        double sinDLng = Math.sin((lng2 - lng1) / 2);
+        double a = sinDLat * sinDLat + cosLat1 * Math.cos(lat2) * sinDLng * sinDLng;
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private int latCell(double latitude) {
+        int cell = (int) Math.floor((latitude + 90.0) / 180.0 * cellsPerAxis);
+        return Math.max(0, Math.min(cellsPerAxis - 1, cell));
+    }
+
+    private int lngCell(double longitude) {
+        return (int) Math.floor((longitude + 180.0) / 360.0 * cellsPerAxis);
+    }
+
+    private static long interleave(int latCell, int lngCell) {
+        return (spread(lngCell) << 1) | spread(latCell);
+    }
+
+    private static long spread(int value) {
+        long x = value & 0xFFFFFFFFL;
+        x = (x | (x << 16)) & 0x0000FFFF0000FFFFL;
+        x = (x | (x << 8)) & 0x00FF00FF00FF00FFL;
+        x = (x | (x << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | (x << 2)) & 0x3333333333333333L;
+        x = (x | (x << 1)) & 0x5555555555555555L;
+        return x;
+    }
+
+    private static int toMicro(double degrees) {
+        return (int) Math.round(degrees * MICRO);
+    }
+
+    private Bucket bucketFor(long cell) {
+        return buckets.computeIfAbsent(cell, k -> new Bucket());
+    }
+
+    private void detach(int slot) {
+        Bucket bucket = buckets.get(cells[slot]);
+        bucket.remove(slot);
+        if (bucket.size == 0) {
+            buckets.remove(cells[slot]);
+        }
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (nextSlot == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            latE6 = Arrays.copyOf(latE6, capacity);
+            lngE6 = Arrays.copyOf(lngE6, capacity);
+            cells = Arrays.copyOf(cells, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+        }
+        return nextSlot++;
+    }
+
+    private void releaseSlot(int slot) {
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private static final class Bucket {
+
+        private int[] slots = new int[8];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class TopK {
+
+        private final int capacity;
+        private final String[] ids;
+        private final double[] distances;
+        private final int[] slots;
+        private int size;
+
+        TopK(int capacity, String[] ids) {
+            this.capacity = capacity;
+            this.ids = ids;
+            this.distances = new double[capacity];
+            this.slots = new int[capacity];
+        }
+
+        void offer(double distance, int slot) {
+            if (size < capacity) {
+                distances[size] = distance;
+                slots[size] = slot;
+                siftUp(size++);
+            } else if (before(distance, slot, distances[0], slots[0])) {
+                distances[0] = distance;
+                slots[0] = slot;
+                siftDown(0);
+            }
+        }
+
+        void pop() {
+            size--;
+            distances[0] = distances[size];
+            slots[0] = slots[size];
+            siftDown(0);
+        }
+
+        private boolean before(double d1, int s1, double d2, int s2) {
+            int c = Double.compare(d1, d2);
+            return c < 0 || (c == 0 && ids[s1].compareTo(ids[s2]) < 0);
+        }
+
+        private boolean before(int i, int j) {
+            return before(distances[i], slots[i], distances[j], slots[j]);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!before(parent, i)) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                int right = left + 1;
+                int largest = i;
+                if (left < size && before(largest, left)) {
+                    largest = left;
+                }
+                if (right < size && before(largest, right)) {
+                    largest = right;
+                }
+                if (largest == i) {
+                    return;
+                }
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            double d = distances[i];
+            distances[i] = distances[j];
+            distances[j] = d;
+            int s = slots[i];
+            slots[i] = slots[j];
+            slots[j] = s;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.proximityservice.geo;
+
+import com.proximityservice.domain.Category;
+import com.proximityservice.dto.BusinessSearchProjection;
+import com.proximityservice.repository.BusinessRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.geo.Point;
+
+@Slf4j
+public class InMemoryGeoIndex implements GeoIndex {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final BusinessRepository businessRepository;
+    private final int cellBits;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Object writeLock = new Object();
+    private final Set<String> touchedDuringRebuild = new HashSet<>();
+    private volatile GeohashGrid grid;
+    private GeohashGrid pending;
+
+    public InMemoryGeoIndex(BusinessRepository businessRepository, int cellBits) {
+        this.businessRepository = businessRepository;
+        this.cellBits = cellBits;
+        this.grid = new GeohashGrid(cellBits);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        int size = rebuild();
+        log.info("In-memory geo index loaded: {} businesses in {}ms", size, System.currentTimeMillis() - start);
+    }
+
+    public int rebuild() {
+        Shadow shadow = startShadow();
+        try {
+            String maxId = businessRepository.findMaxId().orElse("");
+            String after = "";
+            List<BusinessSearchProjection> chunk;
+            do {
+                chunk = businessRepository.findSearchProjectionsAfter(after, maxId, Limit.of(CHUNK_SIZE));
+                shadow.addAll(chunk.stream().map(BusinessSearchProjection::toGeoEntry).toList());
+                if (!chunk.isEmpty()) {
+                    after = chunk.get(chunk.size() - 1).id();
+                }
+            } while (chunk.size() == CHUNK_SIZE);
+            shadow.swap();
+            return (int) shadow.size();
+        } finally {
+            shadow.discard();
+        }
+    }
+
+    @Override
+    public void add(String businessId, double longitude, double latitude, String category) {
+        int categoryOrdinal = categoryOf(category);
+        synchronized (writeLock) {
+            grid.put(businessId, latitude, longitude, categoryOrdinal);
+            if (pending != null) {
+                pending.put(businessId, latitude, longitude, categoryOrdinal);
+                touchedDuringRebuild.add(businessId);
+            }
+        }
+    }
+
+    @Override
+    public void remove(String businessId) {
+        synchronized (writeLock) {
+            grid.remove(businessId);
+            if (pending != null) {
+                pending.remove(businessId);
+                touchedDuringRebuild.add(businessId);
+            }
+        }
+    }
+
+    @Override
+    public List<GeoHit> search(GeoQuery query) {
+        int categoryMask = 0;
+        for (String category : query.categories()) {
+            categoryMask |= 1 << categoryOf(category);
+        }
+        return grid.search(query.latitude(), query.longitude(), query.radiusMeters(), query.limit(), categoryMask,
+                query.after());
+    }
+
+    @Override
+    public Map<String, Point> positions(Collection<String> businessIds) {
+        GeohashGrid current = grid;
+        Map<String, Point> positions = new HashMap<>();
+        for (String id : businessIds) {
+            Point point = current.position(id);
+            if (point != null) {
+                positions.put(id, point);
+            }
+        }
+        return positions;
+    }
+
+    @Override
+    public Set<String> indexed(Collection<String> businessIds, String category) {
+        GeohashGrid current = grid;
+        return businessIds.stream()
+                .filter(id -> category != null ? current.contains(id, categoryOf(category)) : current.contains(id))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void scanMembers(int batchSize, Consumer<GeoMemberBatch> consumer) {
+        GeohashGrid current = grid;
+        GeoMemberBatch.split(null, null, current.ids(), batchSize, consumer);
+        for (Category category : Category.values()) {
+            GeoMemberBatch.split(null, category.getValue(), current.ids(categoryOf(category.getValue())), batchSize,
+                    consumer);
+        }
+    }
+
+    @Override
+    public void clear() {
+        rebuildLock.lock();
+        try {
+            synchronized (writeLock) {
+                grid = new GeohashGrid(cellBits);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<ShadowRebuild> beginShadowRebuild() {
+        return Optional.of(startShadow());
+    }
+
+    public int size() {
+        return grid.size();
+    }
+
+    private Shadow startShadow() {
+        rebuildLock.lock();
+        GeohashGrid next = new GeohashGrid(cellBits);
+        synchronized (writeLock) {
+            pending = next;
+            touchedDuringRebuild.clear();
+        }
+        return new Shadow(next);
+    }
+
+    private static int categoryOf(String category) {
+        return Category.fromValue(category).ordinal();
+    }
+
+    @RequiredArgsConstructor
+    private final class Shadow implements ShadowRebuild {
+
+        private final GeohashGrid next;
+        private boolean finished;
+
+        @Override
+        public void addAll(Collection<GeoEntry> entries) {
+            synchronized (writeLock) {
+                if (pending != next) {
+                    throw new IllegalStateException("In-memory shadow rebuild is no longer active");
+                }
+                for (GeoEntry entry : entries) {
+                    if (!touchedDuringRebuild.contains(entry.id())) {
+                        next.put(entry.id(), entry.latitude(), entry.longitude(), categoryOf(entry.category()));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public long size() {
+            return next.size();
+        }
+
+        @Override
+        public Map<String, Point> positions(Collection<String> businessIds) {
+            Map<String, Point> positions = new HashMap<>();
+            for (String id : businessIds) {
+                Point point = next.position(id);
+                if (point != null) {
+                    positions.put(id, point);
+                }
+            }
+            return positions;
+        }
+
+        @Override
+        public void swap() {
+            synchronized (writeLock) {
+                if (pending != next) {
+                    throw new IllegalStateException("In-memory shadow rebuild is no longer active");
+                }
+                grid = next;
+            }
+            finish();
+        }
+
+        @Override
+        public void discard() {
+            finish();
+        }
+
+        private void finish() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            synchronized (writeLock) {
+                pending = null;
+                touchedDuringRebuild.clear();
+            }
+            rebuildLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.proximityservice.geo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.data.geo.Point;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class MySqlSpatialGeoIndex implements GeoIndex {
+
+    private static final String SEARCH_SQL = """
+            SELECT /*+ MAX_EXECUTION_TIME(%d) */ id, latitude, longitude,
+                   ST_Distance_Sphere(POINT(longitude, latitude), POINT(?, ?), ?) AS distance_m
+            FROM business
+            WHERE %s
+            %s
+            HAVING distance_m <= ?
+            %s
+            ORDER BY distance_m, id
+            LIMIT ?
+            """;
+    private static final String SPATIAL_FILTER =
+            "MBRContains(ST_GeomFromText(?, 4326, 'axis-order=long-lat'), location)";
+    private static final String COLUMN_FILTER = "latitude BETWEEN ? AND ? AND longitude BETWEEN ? AND ?";
+    private static final double MAX_POLYGON_LAT = 89.9;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxExecutionMillis;
+
+    public MySqlSpatialGeoIndex(JdbcTemplate jdbcTemplate, Duration maxExecution) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxExecutionMillis = maxExecution.toMillis();
+    }
+
+    @Override
+    public void add(String businessId, double longitude, double latitude, String category) {
+    }
+
+    @Override
+    public void remove(String businessId) {
+    }
+
+    @Override
+    public List<GeoHit> search(GeoQuery query) {
+        double dLat = query.radiusMeters() / GeohashGrid.METERS_PER_DEGREE;
+        double minLat = Math.max(-90.0, query.latitude() - dLat);
+        double maxLat = Math.min(90.0, query.latitude() + dLat);
+        double cosLat = Math.cos(Math.toRadians(Math.min(90.0, Math.abs(query.latitude()) + dLat)));
+        double dLng = cosLat > 1e-9 ? dLat / cosLat : 180.0;
+        double minLng = query.longitude() - dLng;
+        double maxLng = query.longitude() + dLng;
+
+        List<Object> args = new ArrayList<>(List.of(
+                query.longitude(), query.latitude(), GeohashGrid.EARTH_RADIUS_M));
+        boolean wrapsAntimeridian = minLng < -180.0 || maxLng > 180.0;
+        if (wrapsAntimeridian) {
+            minLng = -180.0;
+            maxLng = 180.0;
+        }
+        String boxFilter;
+        if (wrapsAntimeridian || minLat < -MAX_POLYGON_LAT || maxLat > MAX_POLYGON_LAT) {
+            boxFilter = COLUMN_FILTER;
+            args.addAll(List.of(minLat, maxLat, minLng, maxLng));
+        } else {
+            boxFilter = SPATIAL_FILTER;
+            args.add(String.format(Locale.ROOT, "POLYGON((%.7f %.7f, %.7f %.7f, %.7f %.7f, %.7f %.7f, %.7f %.7f))",
+                    minLng, minLat, maxLng, minLat, maxLng, maxLat, minLng, maxLat, minLng, minLat));
+        }
+        String categoryFilter = "";
+        if (!query.categories().isEmpty()) {
+            categoryFilter = "AND category IN (" + String.join(", ",
+                    Collections.nCopies(query.categories().size(), "?")) + ")";
+            args.addAll(query.categories());
+        }
+        args.add(query.radiusMeters());
+        String cursorFilter = "";
+        if (query.after() != null) {
+            cursorFilter = "AND (distance_m > ? OR (distance_m = ? AND id > ?))";
+            args.add(query.after().distanceMeters());
+            args.add(query.after().distanceMeters());
+            args.add(query.after().id());
+        }
+        args.add(query.limit());
+
+        return jdbcTemplate.query(SEARCH_SQL.formatted(maxExecutionMillis, boxFilter, categoryFilter, cursorFilter),
+                (rs, rowNum) -> new GeoHit(
+                        rs.getString("id"),
+                        rs.getDouble("distance_m"),
+                        rs.getDouble("latitude"),
+                        rs.getDouble("longitude")),
+                args.toArray());
+    }
+
+    @Override
+    public Map<String, Point> positions(Collection<String> businessIds) {
+        Map<String, Point> positions = new HashMap<>();
+        if (businessIds.isEmpty()) {
+            return positions;
+        }
+        jdbcTemplate.query("SELECT id, longitude, latitude FROM business WHERE id IN ("
+                        + String.join(", ", Collections.nCopies(businessIds.size(), "?")) + ")",
+                rs -> {
+                    positions.put(rs.getString("id"), new Point(rs.getDouble("longitude"), rs.getDouble("latitude")));
+                },
+                businessIds.toArray());
+        return positions;
+    }
+
+    @Override
+    public Set<String> indexed(Collection<String> businessIds, String category) {
+        return Set.copyOf(businessIds);
+    }
+
+    @Override
+    public void scanMembers(int batchSize, Consumer<GeoMemberBatch> consumer) {
+    }
+
+    @Override
+    public void clear() {
+    }
+}
@@ -0,0 +1,172 @@
+package com.proximityservice.geo;
+
+import com.proximityservice.repository.BusinessGeoRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.domain.geo.Metrics;
+
+@RequiredArgsConstructor
+public class RedisGeoIndex implements GeoIndex {
+
+    private final BusinessGeoRepository geoRepository;
+
+    @Override
+    public void add(String businessId, double longitude, double latitude, String category) {
+        geoRepository.add(businessId, longitude, latitude, category);
+    }
+
+    @Override
+    public void addAll(Collection<GeoEntry> entries) {
+        geoRepository.addAll(List.copyOf(entries));
+    }
+
+    @Override
+    public void remove(String businessId) {
+        geoRepository.remove(businessId);
+    }
+
+    @Override
+    public void removeAll(Collection<String> businessIds) {
+        geoRepository.removeAll(businessIds);
+    }
+
+    @Override
+    public Map<String, Point> positions(Collection<String> businessIds) {
+        return geoRepository.positions(businessIds);
+    }
+
+    @Override
+    public List<GeoHit> search(GeoQuery query) {
+        if (query.categories().isEmpty()) {
+            return search(null, query);
+        }
+
+        List<GeoHit> merged = new ArrayList<>();
+        for (String category : query.categories()) {
+            merged.addAll(search(category, query));
+        }
+        if (query.categories().size() == 1) {
+            return merged;
+        }
+        return merged.stream()
+                .sorted(GeoHit.BY_DISTANCE)
+                .limit(query.limit())
+                .toList();
+    }
+
+    @Override
+    public List<List<GeoHit>> searchAll(List<GeoQuery> queries) {
+        List<BusinessGeoRepository.NearbySearch> searches = new ArrayList<>();
+        for (GeoQuery query : queries) {
+            if (query.categories().isEmpty()) {
+                searches.add(toSearch(null, query));
+            }
+            for (String category : query.categories()) {
+                searches.add(toSearch(category, query));
+            }
+        }
+        List<GeoResults<GeoLocation<String>>> results = geoRepository.searchNearby(searches);
+
+        List<List<GeoHit>> hitsPerQuery = new ArrayList<>(queries.size());
+        int next = 0;
+        for (GeoQuery query : queries) {
+            int parts = Math.max(1, query.categories().size());
+            List<GeoHit> merged = new ArrayList<>();
+            for (int i = 0; i < parts; i++) {
+                merged.addAll(toHits(results.get(next++)));
+            }
+            hitsPerQuery.add(parts == 1 ? merged : merged.stream()
+                    .sorted(GeoHit.BY_DISTANCE)
+                    .limit(query.limit())
+                    .toList());
+        }
+        return hitsPerQuery;
+    }
+
+    @Override
+    public Set<String> indexed(Collection<String> businessIds, String category) {
+        return geoRepository.indexed(businessIds, category);
+    }
+
+    @Override
+    public void scanMembers(int batchSize, Consumer<GeoMemberBatch> consumer) {
+        geoRepository.scanMembers(batchSize, consumer);
+    }
+
+    @Override
+    public void clear() {
+        geoRepository.deleteAll();
+    }
+
+    @Override
+    public Optional<ShadowRebuild> beginShadowRebuild() {
+        return Optional.of(new Shadow(geoRepository.beginRebuild()));
+    }
+
+    private List<GeoHit> search(String category, GeoQuery query) {
+        GeoCursor after = query.after();
+        return toHits(geoRepository.searchNearby(
+                category, query.longitude(), query.latitude(), query.radiusMeters(), query.limit(),
+                after != null ? after.distanceMeters() : null, after != null ? after.id() : null));
+    }
+
+    private static BusinessGeoRepository.NearbySearch toSearch(String category, GeoQuery query) {
+        GeoCursor after = query.after();
+        return new BusinessGeoRepository.NearbySearch(
+                category, query.longitude(), query.latitude(), query.radiusMeters(), query.limit(),
+                after != null ? after.distanceMeters() : null, after != null ? after.id() : null);
+    }
+
+    private List<GeoHit> toHits(GeoResults<GeoLocation<String>> geoResults) {
+        if (geoResults == null) {
+            return List.of();
+        }
+        return geoResults.getContent().stream()
+                .map(result -> new GeoHit(
+                        result.getContent().getName(),
+                        result.getDistance().in(Metrics.METERS).getValue(),
+                        result.getContent().getPoint().getY(),
+                        result.getContent().getPoint().getX()))
+                .toList();
+    }
+
+    @RequiredArgsConstructor
+    private final class Shadow implements ShadowRebuild {
+
+        private final String token;
+
+        @Override
+        public void addAll(Collection<GeoEntry> entries) {
+            geoRepository.addAllToShadow(token, List.copyOf(entries));
+        }
+
+        @Override
+        public long size() {
+            return geoRepository.shadowSize();
+        }
+
+        @Override
+        public Map<String, Point> positions(Collection<String> businessIds) {
+            return geoRepository.shadowPositions(businessIds);
+        }
+
+        @Override
+        public void swap() {
+            geoRepository.swapShadow(token);
+        }
+
+        @Override
+        public void discard() {
+            geoRepository.deleteShadow(token);
+        }
+    }
+}
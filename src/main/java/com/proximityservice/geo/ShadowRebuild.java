@@ -0,0 +1,18 @@
+package com.proximityservice.geo;
+
+import java.util.Collection;
+import java.util.Map;
+import org.springframework.data.geo.Point;
+
+public interface ShadowRebuild {
+
+    void addAll(Collection<GeoEntry> entries);
+
+    long size();
+
+    Map<String, Point> positions(Collection<String> businessIds);
+
+    void swap();
+
+    void discard();
+}
@@ -0,0 +1,140 @@
+package com.proximityservice.geo;
+
+import com.proximityservice.repository.BusinessGeoRepository;
+import com.proximityservice.repository.ShardedBusinessGeoRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.domain.geo.Metrics;
+
+@RequiredArgsConstructor
+public class ShardedRedisGeoIndex implements GeoIndex {
+
+    private final ShardedBusinessGeoRepository geoRepository;
+    private final int precision;
+
+    @Override
+    public void add(String businessId, double longitude, double latitude, String category) {
+        geoRepository.add(businessId, longitude, latitude, category, shardOf(longitude, latitude));
+    }
+
+    @Override
+    public void remove(String businessId) {
+        geoRepository.remove(businessId);
+    }
+
+    @Override
+    public void addAll(Collection<GeoEntry> entries) {
+        geoRepository.addAll(entries.stream()
+                .map(entry -> new ShardedBusinessGeoRepository.ShardEntry(
+                        shardOf(entry.longitude(), entry.latitude()), entry))
+                .toList());
+    }
+
+    @Override
+    public void remove(String businessId, String shard) {
+        geoRepository.remove(businessId, shard);
+    }
+
+    @Override
+    public void removeAll(Collection<String> businessIds) {
+        geoRepository.removeAll(businessIds);
+    }
+
+    @Override
+    public void removeAll(Collection<String> businessIds, String shard) {
+        geoRepository.removeAll(businessIds, shard);
+    }
+
+    @Override
+    public Map<String, Point> positions(Collection<String> businessIds) {
+        return geoRepository.positions(businessIds);
+    }
+
+    @Override
+    public List<GeoHit> search(GeoQuery query) {
+        return searchAll(List.of(query)).get(0);
+    }
+
+    @Override
+    public List<List<GeoHit>> searchAll(List<GeoQuery> queries) {
+        List<ShardedBusinessGeoRepository.ShardSearch> searches = new ArrayList<>();
+        List<Integer> partsPerQuery = new ArrayList<>(queries.size());
+        for (GeoQuery query : queries) {
+            List<String> cells = GeohashCells.covering(
+                    query.latitude(), query.longitude(), query.radiusMeters(), precision);
+            List<String> categories = query.categories().isEmpty()
+                    ? Collections.singletonList(null)
+                    : List.copyOf(query.categories());
+            for (String cell : cells) {
+                for (String category : categories) {
+                    searches.add(new ShardedBusinessGeoRepository.ShardSearch(cell, toSearch(category, query)));
+                }
+            }
+            partsPerQuery.add(cells.size() * categories.size());
+        }
+        List<GeoResults<GeoLocation<String>>> results = geoRepository.searchNearby(searches);
+
+        List<List<GeoHit>> hitsPerQuery = new ArrayList<>(queries.size());
+        int next = 0;
+        for (int q = 0; q < queries.size(); q++) {
+            List<GeoHit> merged = new ArrayList<>();
+            for (int i = 0; i < partsPerQuery.get(q); i++) {
+                merged.addAll(toHits(results.get(next++)));
+            }
+            hitsPerQuery.add(merged.stream()
+                    .sorted(GeoHit.BY_DISTANCE)
+                    .limit(queries.get(q).limit())
+                    .toList());
+        }
+        return hitsPerQuery;
+    }
+
+    @Override
+    public Set<String> indexed(Collection<String> businessIds, String category) {
+        return geoRepository.indexed(businessIds, category);
+    }
+
+    @Override
+    public void scanMembers(int batchSize, Consumer<GeoMemberBatch> consumer) {
+        geoRepository.scanMembers(batchSize, consumer);
+    }
+
+    @Override
+    public String shardOf(double longitude, double latitude) {
+        return GeohashCells.encode(latitude, longitude, precision);
+    }
+
+    @Override
+    public void clear() {
+        geoRepository.deleteAll();
+    }
+
+    private static BusinessGeoRepository.NearbySearch toSearch(String category, GeoQuery query) {
+        GeoCursor after = query.after();
+        return new BusinessGeoRepository.NearbySearch(
+                category, query.longitude(), query.latitude(), query.radiusMeters(), query.limit(),
+                after != null ? after.distanceMeters() : null, after != null ? after.id() : null);
+    }
+
+    private List<GeoHit> toHits(GeoResults<GeoLocation<String>> geoResults) {
+        if (geoResults == null) {
+            return List.of();
+        }
+        return geoResults.getContent().stream()
+                .map(result -> new GeoHit(
+                        result.getContent().getName(),
+                        result.getDistance().in(Metrics.METERS).getValue(),
+                        result.getContent().getPoint().getY(),
+                        result.getContent().getPoint().getX()))
+                .toList();
+    }
+}
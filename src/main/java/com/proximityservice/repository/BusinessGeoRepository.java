@@ -1,14 +1,35 @@
 package com.proximityservice.repository;
 
-import java.util.Collections;
+import com.proximityservice.config.RedisReadRouter;
+import com.proximityservice.domain.Category;
+import com.proximityservice.geo.GeoEntry;
+import com.proximityservice.geo.GeoMemberBatch;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
 import org.springframework.data.geo.Point;
 import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
 import org.springframework.data.redis.connection.RedisGeoCommands.GeoSearchCommandArgs;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.GeoOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.domain.geo.GeoReference;
 import org.springframework.data.redis.domain.geo.Metrics;
 import org.springframework.stereotype.Repository;
@@ -16,24 +37,342 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class BusinessGeoRepository {
 
-    private static final String GEO_KEY = "geo:businesses";
+    private static final String GEO_KEY = "{geo:businesses}";
+    private static final String SHADOW_KEY = GEO_KEY + ":shadow";
+    private static final String REBUILD_KEY = GEO_KEY + ":rebuild";
+    private static final String TOUCHED_KEY = SHADOW_KEY + ":touched";
+    private static final Duration REBUILD_MARKER_TTL = Duration.ofMinutes(10);
+    static final int DEFAULT_BATCH_SIZE = 1000;
+    static final int MAX_SEARCH_DEPTH = 10_000;
+    static final String CURSOR_TOO_DEEP = "CURSOR_TOO_DEEP";
+
+    static final RedisScript<List> SEARCH_AFTER_SCRIPT = RedisScript.of("""
+            local limit = tonumber(ARGV[4])
+            local afterDist = tonumber(ARGV[5])
+            local afterId = ARGV[6]
+            local maxCount = tonumber(ARGV[7])
+            local count = limit + 1
+            while true do
+                local hits = redis.call('GEOSEARCH', KEYS[1], 'FROMLONLAT', ARGV[1], ARGV[2],
+                    'BYRADIUS', ARGV[3], 'm', 'COUNT', count, 'ASC', 'WITHDIST', 'WITHCOORD')
+                local page = {}
+                for _, hit in ipairs(hits) do
+                    local dist = tonumber(hit[2])
+                    if not afterDist or dist > afterDist or (dist == afterDist and hit[1] > afterId) then
+                        page[#page + 1] = hit
+                    end
+                end
+                table.sort(page, function(a, b)
+                    local da, db = tonumber(a[2]), tonumber(b[2])
+                    if da ~= db then
+                        return da < db
+                    end
+                    return a[1] < b[1]
+                end)
+                if #hits < count
+                        or (#page >= limit and tonumber(hits[#hits][2]) > tonumber(page[limit][2])) then
+                    local result = {}
+                    for i = 1, math.min(limit, #page) do
+                        result[i] = page[i]
+                    end
+                    return result
+                end
+                if count >= maxCount then
+                    return redis.error_reply('CURSOR_TOO_DEEP')
+                end
+                count = math.min(count * 2, maxCount)
+            end
+            """, List.class);
+
+    static final RedisScript<Long> ADD_SCRIPT = RedisScript.of("""
+            local n = tonumber(ARGV[1])
+            local rebuilding = redis.call('EXISTS', KEYS[1]) == 1
+            for i = 2, #ARGV, 4 do
+                local id, lng, lat, slot = ARGV[i], ARGV[i + 1], ARGV[i + 2], tonumber(ARGV[i + 3])
+                redis.call('GEOADD', KEYS[3], lng, lat, id)
+                redis.call('GEOADD', KEYS[3 + slot], lng, lat, id)
+                if rebuilding then
+                    redis.call('GEOADD', KEYS[3 + n], lng, lat, id)
+                    redis.call('GEOADD', KEYS[3 + n + slot], lng, lat, id)
+                    redis.call('SADD', KEYS[2], id)
+                end
+            end
+            return rebuilding and 1 or 0
+            """, Long.class);
+
+    static final RedisScript<Long> REMOVE_SCRIPT = RedisScript.of("""
+            local n = tonumber(ARGV[1])
+            local rebuilding = redis.call('EXISTS', KEYS[1]) == 1
+            local last = rebuilding and 2 + 2 * n or 2 + n
+            for k = 3, last do
+                redis.call('ZREM', KEYS[k], unpack(ARGV, 2))
+            end
+            if rebuilding then
+                redis.call('SADD', KEYS[2], unpack(ARGV, 2))
+            end
+            return rebuilding and 1 or 0
+            """, Long.class);
+
+    static final RedisScript<Long> BEGIN_REBUILD_SCRIPT = RedisScript.of("""
+            local n = tonumber(ARGV[1])
+            redis.call('DEL', KEYS[2])
+            for k = 3 + n, 2 + 2 * n do
+                redis.call('DEL', KEYS[k])
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return n
+            """, Long.class);
+
+    static final RedisScript<Long> FILL_SHADOW_SCRIPT = RedisScript.of("""
+            local n = tonumber(ARGV[1])
+            if redis.call('GET', KEYS[1]) ~= ARGV[2] then
+                return -1
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            local added = 0
+            for i = 4, #ARGV, 4 do
+                local id, lng, lat, slot = ARGV[i], ARGV[i + 1], ARGV[i + 2], tonumber(ARGV[i + 3])
+                if redis.call('SISMEMBER', KEYS[2], id) == 0 then
+                    redis.call('GEOADD', KEYS[3 + n], lng, lat, id)
+                    redis.call('GEOADD', KEYS[3 + n + slot], lng, lat, id)
+                    added = added + 1
+                end
+            end
+            return added
+            """, Long.class);
+
+    static final RedisScript<Long> SWAP_SCRIPT = RedisScript.of("""
+            local n = tonumber(ARGV[1])
+            if redis.call('GET', KEYS[1]) ~= ARGV[2] then
+                return -1
+            end
+            for k = 3, 2 + n do
+                local shadow = KEYS[k + n]
+                if redis.call('EXISTS', shadow) == 1 then
+                    redis.call('RENAME', shadow, KEYS[k])
+                else
+                    redis.call('DEL', KEYS[k])
+                end
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return n
+            """, Long.class);
+
+    static final RedisScript<Long> DISCARD_SCRIPT = RedisScript.of("""
+            local n = tonumber(ARGV[1])
+            if redis.call('GET', KEYS[1]) ~= ARGV[2] then
+                return -1
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            for k = 3 + n, 2 + 2 * n do
+                redis.call('DEL', KEYS[k])
+            end
+            return n
+            """, Long.class);
 
     private final GeoOperations<String, String> geoOps;
     private final StringRedisTemplate redisTemplate;
+    private final RedisReadRouter readRouter;
+    private final int batchSize;
 
-    public BusinessGeoRepository(StringRedisTemplate redisTemplate) {
+    public BusinessGeoRepository(StringRedisTemplate redisTemplate, RedisReadRouter readRouter) {
+        this(redisTemplate, readRouter, DEFAULT_BATCH_SIZE);
+    }
+
+    @Autowired
+    public BusinessGeoRepository(StringRedisTemplate redisTemplate, RedisReadRouter readRouter,
+                                 @Value("${proximity.geo.redis.batch-size:1000}") int batchSize) {
         this.geoOps = redisTemplate.opsForGeo();
         this.redisTemplate = redisTemplate;
+        this.readRouter = readRouter;
+        this.batchSize = batchSize;
     }
 
     public void add(String businessId, double longitude, double latitude) {
         geoOps.add(GEO_KEY, new Point(longitude, latitude), businessId);
     }
 
+    public void add(String businessId, double longitude, double latitude, String category) {
+        addAll(List.of(new GeoEntry(businessId, longitude, latitude, category)));
+    }
+
+    public void addAll(List<GeoEntry> entries) {
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<String> args = new ArrayList<>();
+            args.add(Integer.toString(keySuffixes().size()));
+            addEntryArgs(args, entries.subList(from, Math.min(from + batchSize, entries.size())));
+            redisTemplate.execute(ADD_SCRIPT, rebuildKeys(), args.toArray());
+        }
+    }
+
+    public String beginRebuild() {
+        String token = UUID.randomUUID().toString();
+        redisTemplate.execute(BEGIN_REBUILD_SCRIPT, rebuildKeys(),
+                Integer.toString(keySuffixes().size()), token, Long.toString(REBUILD_MARKER_TTL.toMillis()));
+        return token;
+    }
+
+    public void addAllToShadow(String token, List<GeoEntry> entries) {
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<String> args = new ArrayList<>();
+            args.add(Integer.toString(keySuffixes().size()));
+            args.add(token);
+            args.add(Long.toString(REBUILD_MARKER_TTL.toMillis()));
+            addEntryArgs(args, entries.subList(from, Math.min(from + batchSize, entries.size())));
+            Long added = redisTemplate.execute(FILL_SHADOW_SCRIPT, rebuildKeys(), args.toArray());
+            if (added == null || added < 0) {
+                throw new IllegalStateException("Shadow rebuild " + token + " is no longer active");
+            }
+        }
+    }
+
     public GeoResults<GeoLocation<String>> searchNearby(double longitude, double latitude,
                                                          double radiusMeters, int limit) {
-        return geoOps.search(
-                GEO_KEY,
+        return search(GEO_KEY, longitude, latitude, radiusMeters, limit);
+    }
+
+    public GeoResults<GeoLocation<String>> searchNearby(String category, double longitude, double latitude,
+                                                         double radiusMeters, int limit) {
+        return search(categoryKey(category), longitude, latitude, radiusMeters, limit);
+    }
+
+    public GeoResults<GeoLocation<String>> searchNearby(String category, double longitude, double latitude,
+                                                         double radiusMeters, int limit,
+                                                         Double afterDistance, String afterId) {
+        NearbySearch search = new NearbySearch(
+                category, longitude, latitude, radiusMeters, limit, afterDistance, afterId);
+        List<?> rows;
+        try {
+            rows = readRouter.read(template -> template.execute(SEARCH_AFTER_SCRIPT, List.of(search.key()),
+                    (Object[]) search.scriptArgs()));
+        } catch (DataAccessException e) {
+            if (isCursorTooDeep(e)) {
+                throw cursorTooDeep(e);
+            }
+            throw e;
+        }
+        return toGeoResults(rows);
+    }
+
+    public List<GeoResults<GeoLocation<String>>> searchNearby(List<NearbySearch> searches) {
+        return searchPipelined(readRouter,
+                searches.stream().map(NearbySearch::key).toList(),
+                searches.stream().map(NearbySearch::scriptArgs).toList());
+    }
+
+    public void remove(String businessId) {
+        removeAll(List.of(businessId));
+    }
+
+    public void removeAll(Collection<String> businessIds) {
+        List<String> ids = List.copyOf(businessIds);
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<String> args = new ArrayList<>();
+            args.add(Integer.toString(keySuffixes().size()));
+            args.addAll(ids.subList(from, Math.min(from + batchSize, ids.size())));
+            redisTemplate.execute(REMOVE_SCRIPT, rebuildKeys(), args.toArray());
+        }
+    }
+
+    public Map<String, Point> positions(Collection<String> businessIds) {
+        return positions(GEO_KEY, businessIds);
+    }
+
+    public Map<String, Point> shadowPositions(Collection<String> businessIds) {
+        return positions(SHADOW_KEY, businessIds);
+    }
+
+    public Set<String> indexed(Collection<String> businessIds, String category) {
+        String key = category != null ? categoryKey(category) : GEO_KEY;
+        List<String> ids = List.copyOf(businessIds);
+        Set<String> indexed = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            List<Double> scores = redisTemplate.opsForZSet().score(key, chunk.toArray());
+            for (int i = 0; scores != null && i < chunk.size(); i++) {
+                if (scores.get(i) != null) {
+                    indexed.add(chunk.get(i));
+                }
+            }
+        }
+        return indexed;
+    }
+
+    public void scanMembers(int count, Consumer<GeoMemberBatch> consumer) {
+        RedisKeys.zscan(redisTemplate, GEO_KEY, count,
+                ids -> consumer.accept(new GeoMemberBatch(null, null, ids)));
+        for (Category category : Category.values()) {
+            RedisKeys.zscan(redisTemplate, categoryKey(category.getValue()), count,
+                    ids -> consumer.accept(new GeoMemberBatch(null, category.getValue(), ids)));
+        }
+    }
+
+    public long shadowSize() {
+        Long size = redisTemplate.opsForZSet().zCard(SHADOW_KEY);
+        return size != null ? size : 0;
+    }
+
+    public void swapShadow(String token) {
+        Long swapped = redisTemplate.execute(SWAP_SCRIPT, rebuildKeys(), Integer.toString(keySuffixes().size()), token);
+        if (swapped == null || swapped < 0) {
+            throw new IllegalStateException("Shadow rebuild " + token + " is no longer active");
+        }
+    }
+
+    public void deleteShadow(String token) {
+        redisTemplate.execute(DISCARD_SCRIPT, rebuildKeys(), Integer.toString(keySuffixes().size()), token);
+    }
+
+    public void deleteAll() {
+        redisTemplate.delete(keySuffixes().stream().map(suffix -> GEO_KEY + suffix).toList());
+    }
+
+    private static void addEntryArgs(List<String> args, List<GeoEntry> entries) {
+        for (GeoEntry entry : entries) {
+            args.add(entry.id());
+            args.add(Double.toString(entry.longitude()));
+            args.add(Double.toString(entry.latitude()));
+            args.add(Integer.toString(Category.fromValue(entry.category()).ordinal() + 1));
+        }
+    }
+
+    private static List<String> rebuildKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(REBUILD_KEY);
+        keys.add(TOUCHED_KEY);
+        keySuffixes().forEach(suffix -> keys.add(GEO_KEY + suffix));
+        keySuffixes().forEach(suffix -> keys.add(SHADOW_KEY + suffix));
+        return keys;
+    }
+
+    private Map<String, Point> positions(String key, Collection<String> businessIds) {
+        List<String> ids = List.copyOf(businessIds);
+        Map<String, Point> positions = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            List<Point> points = geoOps.position(key, chunk.toArray(String[]::new));
+            for (int i = 0; points != null && i < chunk.size(); i++) {
+                if (points.get(i) != null) {
+                    positions.put(chunk.get(i), points.get(i));
+                }
+            }
+        }
+        return positions;
+    }
+
+    private static List<String> keySuffixes() {
+        List<String> suffixes = new ArrayList<>();
+        suffixes.add("");
+        for (Category category : Category.values()) {
+            suffixes.add(":" + category.getValue());
+        }
+        return suffixes;
+    }
+
+    private GeoResults<GeoLocation<String>> search(String key, double longitude, double latitude,
+                                                   double radiusMeters, int limit) {
+        return readRouter.read(template -> template.opsForGeo().search(
+                key,
                 GeoReference.fromCoordinate(longitude, latitude),
                 new Distance(radiusMeters, Metrics.METERS),
                 GeoSearchCommandArgs.newGeoSearchArgs()
@@ -41,19 +380,119 @@ public class BusinessGeoRepository {
                         .includeCoordinates()
                         .sortAscending()
                         .limit(limit)
-        );
+        ));
     }
 
-    public void remove(String businessId) {
-        geoOps.remove(GEO_KEY, businessId);
+    static List<GeoResults<GeoLocation<String>>> searchPipelined(RedisReadRouter readRouter, List<String> keys,
+                                                                 List<String[]> scriptArgs) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<Object> rows = readRouter.read(template -> {
+            try {
+                return pipelineSearch(template, keys, scriptArgs, false);
+            } catch (RedisPipelineException e) {
+                rejectDeepCursor(e);
+                return pipelineSearch(template, keys, scriptArgs, true);
+            }
+        });
+        return rows.stream()
+                .map(row -> toGeoResults((List<?>) row))
+                .toList();
     }
 
-    public Set<String> getAllMembers() {
-        Set<String> members = redisTemplate.opsForZSet().range(GEO_KEY, 0, -1);
-        return members != null ? members : Collections.emptySet();
+    private static List<Object> pipelineSearch(StringRedisTemplate template, List<String> keys,
+                                               List<String[]> scriptArgs, boolean sendBody) {
+        byte[] sha = bytes(SEARCH_AFTER_SCRIPT.getSha1());
+        byte[] body = bytes(SEARCH_AFTER_SCRIPT.getScriptAsString());
+        return template.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < keys.size(); i++) {
+                List<String> args = new ArrayList<>();
+                args.add(keys.get(i));
+                args.addAll(List.of(scriptArgs.get(i)));
+                byte[][] keysAndArgs = args.stream().map(BusinessGeoRepository::bytes).toArray(byte[][]::new);
+                if (sendBody) {
+                    connection.scriptingCommands().eval(body, ReturnType.MULTI, 1, keysAndArgs);
+                } else {
+                    connection.scriptingCommands().evalSha(sha, ReturnType.MULTI, 1, keysAndArgs);
+                }
+            }
+            return null;
+        });
     }
 
-    public void deleteAll() {
-        redisTemplate.delete(GEO_KEY);
+    private static void rejectDeepCursor(RedisPipelineException e) {
+        boolean tooDeep = e.getPipelineResult().stream()
+                .anyMatch(result -> result instanceof Exception failure && isCursorTooDeep(failure));
+        if (tooDeep) {
+            throw cursorTooDeep(e);
+        }
+    }
+
+    static boolean isCursorTooDeep(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(CURSOR_TOO_DEEP)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static IllegalArgumentException cursorTooDeep(Throwable cause) {
+        return new IllegalArgumentException(
+                "Cursor is deeper than the maximum search depth of " + MAX_SEARCH_DEPTH + " results", cause);
+    }
+
+    private static GeoResults<GeoLocation<String>> toGeoResults(List<?> rows) {
+        if (rows == null) {
+            return new GeoResults<>(List.of(), Metrics.METERS);
+        }
+        List<GeoResult<GeoLocation<String>>> results = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            results.add(toGeoResult((List<?>) row));
+        }
+        return new GeoResults<>(results, Metrics.METERS);
+    }
+
+    static GeoResult<GeoLocation<String>> toGeoResult(List<?> hit) {
+        List<?> coordinates = (List<?>) hit.get(2);
+        Point point = new Point(Double.parseDouble(text(coordinates.get(0))),
+                Double.parseDouble(text(coordinates.get(1))));
+        return new GeoResult<>(new GeoLocation<>(text(hit.get(0)), point),
+                new Distance(Double.parseDouble(text(hit.get(1))), Metrics.METERS));
+    }
+
+    private static String text(Object value) {
+        return value instanceof byte[] raw ? new String(raw, StandardCharsets.UTF_8) : value.toString();
+    }
+
+    private static String categoryKey(String category) {
+        return GEO_KEY + ":" + category;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public record NearbySearch(
+            String category,
+            double longitude,
+            double latitude,
+            double radiusMeters,
+            int limit,
+            Double afterDistance,
+            String afterId
+    ) {
+        String key() {
+            return category != null ? categoryKey(category) : GEO_KEY;
+        }
+
+        String[] scriptArgs() {
+            return new String[]{
+                    Double.toString(longitude), Double.toString(latitude), Double.toString(radiusMeters),
+                    Integer.toString(limit),
+                    afterDistance != null ? afterDistance.toString() : "", afterId != null ? afterId : "",
+                    Integer.toString(MAX_SEARCH_DEPTH)};
+        }
     }
 }
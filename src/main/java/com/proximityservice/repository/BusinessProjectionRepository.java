@@ -0,0 +1,138 @@
+package com.proximityservice.repository;
+
+import com.proximityservice.dto.BusinessSearchProjection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class BusinessProjectionRepository {
+
+    private static final String KEY_PREFIX = "projection:business:";
+    static final List<String> FIELD_NAMES = List.of("name", "address", "lat", "lng", "category");
+    private static final byte[][] FIELDS = FIELD_NAMES.stream()
+            .map(BusinessProjectionRepository::bytes)
+            .toArray(byte[][]::new);
+
+    private static final byte[] SAVE_IF_ABSENT_SCRIPT = bytes("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], unpack(ARGV))
+            return 1
+            """);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void save(BusinessSearchProjection projection) {
+        saveAll(List.of(projection));
+    }
+
+    public void saveAll(Collection<BusinessSearchProjection> projections) {
+        if (projections.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (BusinessSearchProjection projection : projections) {
+                connection.hashCommands().hMSet(bytes(key(projection.id())), toHash(projection));
+            }
+            return null;
+        });
+    }
+
+    public void saveAllIfAbsent(Collection<BusinessSearchProjection> projections) {
+        if (projections.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (BusinessSearchProjection projection : projections) {
+                List<byte[]> keysAndArgs = new ArrayList<>();
+                keysAndArgs.add(bytes(key(projection.id())));
+                toHash(projection).forEach((field, value) -> {
+                    keysAndArgs.add(field);
+                    keysAndArgs.add(value);
+                });
+                connection.scriptingCommands().eval(SAVE_IF_ABSENT_SCRIPT, ReturnType.INTEGER, 1,
+                        keysAndArgs.toArray(byte[][]::new));
+            }
+            return null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String, BusinessSearchProjection> findAll(List<String> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> rows = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String id : ids) {
+                connection.hashCommands().hMGet(bytes(key(id)), FIELDS);
+            }
+            return null;
+        });
+
+        Map<String, BusinessSearchProjection> projections = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            List<String> values = (List<String>) rows.get(i);
+            if (values != null && !values.contains(null)) {
+                projections.put(ids.get(i), fromHash(ids.get(i), values));
+            }
+        }
+        return projections;
+    }
+
+    public void delete(String businessId) {
+        redisTemplate.delete(key(businessId));
+    }
+
+    public void deleteAll(Collection<String> businessIds) {
+        if (businessIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(businessIds.stream().map(BusinessProjectionRepository::key).toList());
+    }
+
+    public void scanIds(int count, Consumer<List<String>> consumer) {
+        RedisKeys.scan(redisTemplate, KEY_PREFIX + "*", count, keys -> consumer.accept(keys.stream()
+                .map(key -> key.substring(KEY_PREFIX.length()))
+                .toList()));
+    }
+
+    private static Map<byte[], byte[]> toHash(BusinessSearchProjection projection) {
+        Map<byte[], byte[]> hash = new HashMap<>();
+        hash.put(FIELDS[0], bytes(projection.name()));
+        hash.put(FIELDS[1], bytes(projection.address()));
+        hash.put(FIELDS[2], bytes(String.valueOf(projection.latitude())));
+        hash.put(FIELDS[3], bytes(String.valueOf(projection.longitude())));
+        hash.put(FIELDS[4], bytes(projection.category()));
+        return hash;
+    }
+
+    static BusinessSearchProjection fromHash(String businessId, List<String> values) {
+        return new BusinessSearchProjection(
+                businessId,
+                values.get(0),
+                values.get(1),
+                Double.valueOf(values.get(2)),
+                Double.valueOf(values.get(3)),
+                values.get(4));
+    }
+
+    static String key(String businessId) {
+        return KEY_PREFIX + businessId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,10 +1,55 @@
 package com.proximityservice.repository;
 
 import com.proximityservice.domain.Business;
+import com.proximityservice.dto.BusinessDetailResponse;
+import com.proximityservice.dto.BusinessSearchProjection;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BusinessRepository extends JpaRepository<Business, String> {
 
-    List<Business> findAllByIdIn(List<String> ids);
+    @Query("""
+            select new com.proximityservice.dto.BusinessSearchProjection(
+                    b.id, b.name, b.address, b.latitude, b.longitude, b.category)
+            from Business b
+            where b.id in :ids
+            """)
+    List<BusinessSearchProjection> findSearchProjectionsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select b from Business b where b.id in :ids")
+    List<Business> lockForShare(@Param("ids") Collection<String> ids);
+
+    @Query("""
+            select new com.proximityservice.dto.BusinessSearchProjection(
+                    b.id, b.name, b.address, b.latitude, b.longitude, b.category)
+            from Business b
+            where b.id > :after and b.id <= :upTo
+            order by b.id
+            """)
+    List<BusinessSearchProjection> findSearchProjectionsAfter(@Param("after") String after,
+                                                              @Param("upTo") String upTo,
+                                                              Limit limit);
+
+    @Query("select b.id from Business b where b.id in :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    @Query("select max(b.id) from Business b")
+    Optional<String> findMaxId();
+
+    @Query("""
+            select new com.proximityservice.dto.BusinessDetailResponse(
+                    b.id, b.name, b.address, b.latitude, b.longitude, b.category, b.phone, b.hours,
+                    b.createdAt, b.updatedAt)
+            from Business b
+            where b.id = :id
+            """)
+    Optional<BusinessDetailResponse> findDetailById(@Param("id") String id);
 }
@@ -0,0 +1,24 @@
+package com.proximityservice.repository;
+
+import com.proximityservice.domain.GeoOutboxEvent;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface GeoOutboxRepository extends JpaRepository<GeoOutboxEvent, Long> {
+
+    @Query(value = "SELECT * FROM geo_outbox WHERE parked_at IS NULL ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<GeoOutboxEvent> lockOldest(@Param("limit") int limit);
+
+    @Modifying
+    @Query("update GeoOutboxEvent e set e.attempts = e.attempts + 1 where e.id in :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update GeoOutboxEvent e set e.parkedAt = CURRENT_TIMESTAMP where e.id in :ids")
+    int park(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,23 @@
+package com.proximityservice.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveBusinessGeoRepository {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    public Flux<GeoResult<GeoLocation<String>>> searchNearby(BusinessGeoRepository.NearbySearch search) {
+        return redisTemplate.execute(BusinessGeoRepository.SEARCH_AFTER_SCRIPT,
+                        List.of(search.key()), List.of(search.scriptArgs()))
+                .onErrorMap(BusinessGeoRepository::isCursorTooDeep, BusinessGeoRepository::cursorTooDeep)
+                .map(BusinessGeoRepository::toGeoResult);
+    }
+}
@@ -0,0 +1,21 @@
+package com.proximityservice.repository;
+
+import com.proximityservice.dto.BusinessSearchProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveBusinessProjectionRepository {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    public Mono<BusinessSearchProjection> find(String businessId) {
+        return redisTemplate.<String, String>opsForHash()
+                .multiGet(BusinessProjectionRepository.key(businessId), BusinessProjectionRepository.FIELD_NAMES)
+                .filter(values -> !values.contains(null))
+                .map(values -> BusinessProjectionRepository.fromHash(businessId, values));
+    }
+}
@@ -0,0 +1,106 @@
+package com.proximityservice.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.springframework.data.redis.connection.DecoratedRedisConnection;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+final class RedisKeys {
+
+    private static final int SCAN_COUNT = 1000;
+
+    private RedisKeys() {
+    }
+
+    static Set<String> scan(StringRedisTemplate redisTemplate, String pattern) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+        return redisTemplate.execute((RedisCallback<Set<String>>) connection -> {
+            RedisConnection target = connection instanceof DecoratedRedisConnection decorated
+                    ? decorated.getDelegate() : connection;
+            if (target instanceof RedisClusterConnection cluster) {
+                return StreamSupport.stream(cluster.clusterGetNodes().spliterator(), false)
+                        .filter(RedisClusterNode::isMaster)
+                        .toList()
+                        .parallelStream()
+                        .flatMap(node -> scan(cluster, node, options).stream())
+                        .collect(Collectors.toSet());
+            }
+            return scan(connection, options);
+        });
+    }
+
+    static void scan(StringRedisTemplate redisTemplate, String pattern, int batchSize,
+                     Consumer<List<String>> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            RedisConnection target = connection instanceof DecoratedRedisConnection decorated
+                    ? decorated.getDelegate() : connection;
+            if (target instanceof RedisClusterConnection cluster) {
+                for (RedisClusterNode node : cluster.clusterGetNodes()) {
+                    if (node.isMaster()) {
+                        try (Cursor<byte[]> cursor = cluster.scan(node, options)) {
+                            drain(cursor, key -> new String(key, StandardCharsets.UTF_8), batchSize, consumer);
+                        }
+                    }
+                }
+                return null;
+            }
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                drain(cursor, key -> new String(key, StandardCharsets.UTF_8), batchSize, consumer);
+            }
+            return null;
+        });
+    }
+
+    static void zscan(StringRedisTemplate redisTemplate, String key, int batchSize, Consumer<List<String>> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+        try (Cursor<TypedTuple<String>> cursor = redisTemplate.opsForZSet().scan(key, options)) {
+            drain(cursor, TypedTuple::getValue, batchSize, consumer);
+        }
+    }
+
+    private static <T> void drain(Cursor<T> cursor, Function<T, String> mapper, int batchSize,
+                                  Consumer<List<String>> consumer) {
+        List<String> batch = new ArrayList<>(batchSize);
+        while (cursor.hasNext()) {
+            batch.add(mapper.apply(cursor.next()));
+            if (batch.size() == batchSize) {
+                consumer.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+    }
+
+    private static Set<String> scan(RedisClusterConnection cluster, RedisClusterNode node, ScanOptions options) {
+        Set<String> keys = new HashSet<>();
+        try (Cursor<byte[]> cursor = cluster.scan(node, options)) {
+            cursor.forEachRemaining(key -> keys.add(new String(key, StandardCharsets.UTF_8)));
+        }
+        return keys;
+    }
+
+    private static Set<String> scan(RedisConnection connection, ScanOptions options) {
+        Set<String> keys = new HashSet<>();
+        try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            cursor.forEachRemaining(key -> keys.add(new String(key, StandardCharsets.UTF_8)));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,356 @@
+package com.proximityservice.repository;
+
+import com.proximityservice.config.RedisReadRouter;
+import com.proximityservice.domain.Category;
+import com.proximityservice.geo.GeoEntry;
+import com.proximityservice.geo.GeoMemberBatch;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ShardedBusinessGeoRepository {
+
+    private static final String SHARD_PREFIX = "geo:businesses:{";
+    private static final String DIRECTORY_PREFIX = "geo:businesses:directory:{";
+    private static final int DIRECTORY_BUCKETS = 256;
+
+    static final RedisScript<List> CLAIM_CELLS_SCRIPT = RedisScript.of("""
+            local previous = {}
+            for i = 1, #ARGV, 2 do
+                previous[#previous + 1] = redis.call('HGET', KEYS[1], ARGV[i])
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return previous
+            """, List.class);
+
+    static final RedisScript<List> RELEASE_CELLS_SCRIPT = RedisScript.of("""
+            local previous = {}
+            for i = 1, #ARGV do
+                previous[i] = redis.call('HGET', KEYS[1], ARGV[i])
+                redis.call('HDEL', KEYS[1], ARGV[i])
+            end
+            return previous
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisReadRouter readRouter;
+    private final int batchSize;
+
+    public ShardedBusinessGeoRepository(StringRedisTemplate redisTemplate, RedisReadRouter readRouter) {
+        this(redisTemplate, readRouter, BusinessGeoRepository.DEFAULT_BATCH_SIZE);
+    }
+
+    @Autowired
+    public ShardedBusinessGeoRepository(StringRedisTemplate redisTemplate, RedisReadRouter readRouter,
+                                        @Value("${proximity.geo.redis.batch-size:1000}") int batchSize) {
+        this.redisTemplate = redisTemplate;
+        this.readRouter = readRouter;
+        this.batchSize = batchSize;
+    }
+
+    public void add(String businessId, double longitude, double latitude, String category, String cell) {
+        addAll(List.of(new ShardEntry(cell, new GeoEntry(businessId, longitude, latitude, category))));
+    }
+
+    public void addAll(List<ShardEntry> entries) {
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<ShardEntry> chunk = entries.subList(from, Math.min(from + batchSize, entries.size()));
+            Map<String, List<GeoLocation<byte[]>>> byKey = new LinkedHashMap<>();
+            for (ShardEntry shardEntry : chunk) {
+                GeoEntry entry = shardEntry.entry();
+                GeoLocation<byte[]> location =
+                        new GeoLocation<>(bytes(entry.id()), new Point(entry.longitude(), entry.latitude()));
+                byKey.computeIfAbsent(shardKey(shardEntry.cell()), key -> new ArrayList<>()).add(location);
+                byKey.computeIfAbsent(shardKey(shardEntry.cell(), entry.category()), key -> new ArrayList<>())
+                        .add(location);
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byKey.forEach((key, locations) -> connection.geoCommands().geoAdd(bytes(key), locations));
+                return null;
+            });
+
+            List<String> previousCells = updateDirectory(CLAIM_CELLS_SCRIPT,
+                    chunk.stream().map(shardEntry -> shardEntry.entry().id()).toList(),
+                    chunk.stream().map(ShardEntry::cell).toList());
+            Map<String, List<String>> moved = new HashMap<>();
+            Map<CellCategory, List<String>> recategorized = new HashMap<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                ShardEntry shardEntry = chunk.get(i);
+                String previousCell = previousCells.get(i);
+                if (previousCell == null) {
+                    continue;
+                }
+                String id = shardEntry.entry().id();
+                if (previousCell.equals(shardEntry.cell())) {
+                    recategorized.computeIfAbsent(new CellCategory(previousCell, shardEntry.entry().category()),
+                            key -> new ArrayList<>()).add(id);
+                } else {
+                    moved.computeIfAbsent(previousCell, cell -> new ArrayList<>()).add(id);
+                }
+            }
+            if (moved.isEmpty() && recategorized.isEmpty()) {
+                continue;
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                moved.forEach((cell, members) -> removeFromShard(connection.zSetCommands(), cell, members));
+                recategorized.forEach((kept, members) -> {
+                    for (Category category : Category.values()) {
+                        if (!category.getValue().equals(kept.category())) {
+                            connection.zSetCommands().zRem(bytes(shardKey(kept.cell(), category.getValue())),
+                                    toBytes(members));
+                        }
+                    }
+                });
+                return null;
+            });
+        }
+    }
+
+    public void remove(String businessId) {
+        removeAll(List.of(businessId));
+    }
+
+    public void remove(String businessId, String cell) {
+        byte[] member = bytes(businessId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            removeFromShard(connection.zSetCommands(), cell, member);
+            return null;
+        });
+    }
+
+    public void removeAll(Collection<String> businessIds) {
+        List<String> ids = List.copyOf(businessIds);
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            Map<String, List<String>> membersByCell =
+                    groupByCell(chunk, updateDirectory(RELEASE_CELLS_SCRIPT, chunk, null));
+            if (membersByCell.isEmpty()) {
+                continue;
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                membersByCell.forEach((cell, members) -> removeFromShard(connection.zSetCommands(), cell, members));
+                return null;
+            });
+        }
+    }
+
+    public void removeAll(Collection<String> businessIds, String cell) {
+        List<String> ids = List.copyOf(businessIds);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                removeFromShard(connection.zSetCommands(), cell,
+                        ids.subList(from, Math.min(from + batchSize, ids.size())));
+            }
+            return null;
+        });
+    }
+
+    public Map<String, Point> positions(Collection<String> businessIds) {
+        List<String> ids = List.copyOf(businessIds);
+        Map<String, Point> positions = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            groupByCell(chunk, cellsOf(chunk)).forEach((cell, members) -> {
+                List<Point> points = redisTemplate.opsForGeo().position(shardKey(cell), members.toArray(String[]::new));
+                for (int i = 0; points != null && i < members.size(); i++) {
+                    if (points.get(i) != null) {
+                        positions.put(members.get(i), points.get(i));
+                    }
+                }
+            });
+        }
+        return positions;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Set<String> indexed(Collection<String> businessIds, String category) {
+        List<String> ids = List.copyOf(businessIds);
+        Set<String> indexed = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            List<Map.Entry<String, List<String>>> groups =
+                    new ArrayList<>(groupByCell(chunk, cellsOf(chunk)).entrySet());
+            List<Object> scores = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<String, List<String>> group : groups) {
+                    connection.zSetCommands().zMScore(bytes(shardKey(group.getKey(), category)),
+                            toBytes(group.getValue()));
+                }
+                return null;
+            });
+            for (int g = 0; g < groups.size(); g++) {
+                List<String> members = groups.get(g).getValue();
+                List<Double> memberScores = (List<Double>) scores.get(g);
+                for (int i = 0; memberScores != null && i < members.size(); i++) {
+                    if (memberScores.get(i) != null) {
+                        indexed.add(members.get(i));
+                    }
+                }
+            }
+        }
+        return indexed;
+    }
+
+    public void scanMembers(int count, Consumer<GeoMemberBatch> consumer) {
+        for (String key : scanKeys(SHARD_PREFIX + "*")) {
+            int close = key.indexOf('}', SHARD_PREFIX.length());
+            String cell = key.substring(SHARD_PREFIX.length(), close);
+            String category = close + 1 < key.length() ? key.substring(close + 2) : null;
+            RedisKeys.zscan(redisTemplate, key, count,
+                    ids -> consumer.accept(new GeoMemberBatch(cell, category, ids)));
+        }
+    }
+
+    public List<GeoResults<GeoLocation<String>>> searchNearby(List<ShardSearch> searches) {
+        return BusinessGeoRepository.searchPipelined(readRouter,
+                searches.stream().map(ShardSearch::key).toList(),
+                searches.stream().map(search -> search.search().scriptArgs()).toList());
+    }
+
+    public void deleteAll() {
+        List<String> keys = new ArrayList<>(scanKeys(SHARD_PREFIX + "*"));
+        keys.addAll(scanKeys(DIRECTORY_PREFIX + "*"));
+        for (int from = 0; from < keys.size(); from += 500) {
+            redisTemplate.unlink(keys.subList(from, Math.min(from + 500, keys.size())));
+        }
+    }
+
+    private Set<String> scanKeys(String pattern) {
+        return RedisKeys.scan(redisTemplate, pattern);
+    }
+
+    private List<String> cellsOf(List<String> ids) {
+        List<Map.Entry<String, List<Integer>>> buckets = bucketsOf(ids);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<String, List<Integer>> bucket : buckets) {
+                connection.hashCommands().hMGet(bytes(bucket.getKey()), bucket.getValue().stream()
+                        .map(i -> bytes(ids.get(i)))
+                        .toArray(byte[][]::new));
+            }
+            return null;
+        });
+        return alignToIds(ids.size(), buckets, results);
+    }
+
+    private List<String> updateDirectory(RedisScript<List> script, List<String> ids, List<String> cells) {
+        List<Map.Entry<String, List<Integer>>> buckets = bucketsOf(ids);
+        byte[] body = bytes(script.getScriptAsString());
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<String, List<Integer>> bucket : buckets) {
+                List<byte[]> keysAndArgs = new ArrayList<>();
+                keysAndArgs.add(bytes(bucket.getKey()));
+                for (int i : bucket.getValue()) {
+                    keysAndArgs.add(bytes(ids.get(i)));
+                    if (cells != null) {
+                        keysAndArgs.add(bytes(cells.get(i)));
+                    }
+                }
+                connection.scriptingCommands().eval(body, ReturnType.MULTI, 1, keysAndArgs.toArray(byte[][]::new));
+            }
+            return null;
+        });
+        return alignToIds(ids.size(), buckets, results);
+    }
+
+    private static List<Map.Entry<String, List<Integer>>> bucketsOf(List<String> ids) {
+        Map<String, List<Integer>> indexesByBucket = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            indexesByBucket.computeIfAbsent(directoryKey(ids.get(i)), key -> new ArrayList<>()).add(i);
+        }
+        return new ArrayList<>(indexesByBucket.entrySet());
+    }
+
+    private static List<String> alignToIds(int size, List<Map.Entry<String, List<Integer>>> buckets,
+                                           List<Object> results) {
+        String[] cells = new String[size];
+        for (int b = 0; b < buckets.size(); b++) {
+            List<Integer> indexes = buckets.get(b).getValue();
+            List<?> bucketCells = (List<?>) results.get(b);
+            for (int i = 0; bucketCells != null && i < indexes.size(); i++) {
+                cells[indexes.get(i)] = (String) bucketCells.get(i);
+            }
+        }
+        return Arrays.asList(cells);
+    }
+
+    private static Map<String, List<String>> groupByCell(List<String> ids, List<String> cells) {
+        Map<String, List<String>> idsByCell = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (cells.get(i) != null) {
+                idsByCell.computeIfAbsent(cells.get(i), cell -> new ArrayList<>()).add(ids.get(i));
+            }
+        }
+        return idsByCell;
+    }
+
+    private static void removeFromShard(RedisZSetCommands zSetCommands, String cell, List<String> ids) {
+        removeFromShard(zSetCommands, cell, toBytes(ids));
+    }
+
+    private static void removeFromShard(RedisZSetCommands zSetCommands, String cell, byte[]... members) {
+        zSetCommands.zRem(bytes(shardKey(cell)), members);
+        for (Category category : Category.values()) {
+            zSetCommands.zRem(bytes(shardKey(cell, category.getValue())), members);
+        }
+    }
+
+    public static String directoryKey(String businessId) {
+        return DIRECTORY_PREFIX + "%02x".formatted(Math.floorMod(businessId.hashCode(), DIRECTORY_BUCKETS)) + "}";
+    }
+
+    static String shardKey(String cell) {
+        return SHARD_PREFIX + cell + "}";
+    }
+
+    static String shardKey(String cell, String category) {
+        return category != null ? shardKey(cell) + ":" + category : shardKey(cell);
+    }
+
+    private static byte[][] toBytes(List<String> ids) {
+        return ids.stream().map(ShardedBusinessGeoRepository::bytes).toArray(byte[][]::new);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public record ShardEntry(
+            String cell,
+            GeoEntry entry
+    ) {
+    }
+
+    private record CellCategory(
+            String cell,
+            String category
+    ) {
+    }
+
+    public record ShardSearch(
+            String cell,
+            BusinessGeoRepository.NearbySearch search
+    ) {
+        String key() {
+            return shardKey(cell, search.category());
+        }
+    }
+}
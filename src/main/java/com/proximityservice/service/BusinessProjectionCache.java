@@ -0,0 +1,132 @@
+package com.proximityservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.proximityservice.config.CircuitBreakers;
+import com.proximityservice.dto.BusinessSearchProjection;
+import com.proximityservice.exception.CircuitOpenException;
+import com.proximityservice.repository.BusinessProjectionRepository;
+import com.proximityservice.repository.BusinessRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@Slf4j
+public class BusinessProjectionCache implements MessageListener {
+
+    public static final String EVICTION_CHANNEL = "projection:cache:evict";
+
+    private final BusinessRepository businessRepository;
+    private final BusinessProjectionRepository projectionRepository;
+    private final CircuitBreakers circuitBreakers;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, BusinessSearchProjection> cache;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public BusinessProjectionCache(BusinessRepository businessRepository,
+                                   BusinessProjectionRepository projectionRepository,
+                                   CircuitBreakers circuitBreakers,
+                                   StringRedisTemplate redisTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${proximity.cache.projection.max-weight-bytes:67108864}") long maxWeightBytes,
+                                   @Value("${proximity.cache.projection.ttl:10m}") Duration ttl) {
+        this.businessRepository = businessRepository;
+        this.projectionRepository = projectionRepository;
+        this.circuitBreakers = circuitBreakers;
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String id, BusinessSearchProjection projection) -> projection.estimatedBytes())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "businessProjection");
+    }
+
+    public Map<String, BusinessSearchProjection> getAll(Collection<String> ids) {
+        return cache.getAll(ids, this::loadMissing);
+    }
+
+    public Map<String, BusinessSearchProjection> getAllPresent(Collection<String> ids) {
+        return cache.getAllPresent(ids);
+    }
+
+    public void put(BusinessSearchProjection projection) {
+        cache.put(projection.id(), projection);
+    }
+
+    public void evict(String id) {
+        cache.invalidate(id);
+        try {
+            redisTemplate.convertAndSend(EVICTION_CHANNEL, instanceId + "|" + id);
+        } catch (DataAccessException e) {
+            log.warn("Projection cache eviction broadcast failed, other instances expire by TTL: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 2);
+        if (parts.length == 2 && !instanceId.equals(parts[0])) {
+            cache.invalidate(parts[1]);
+        }
+    }
+
+    public void evictAfterCommit(String id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(id);
+            }
+        });
+    }
+
+    private Map<String, BusinessSearchProjection> loadMissing(Collection<? extends String> missingIds) {
+        List<String> ids = List.copyOf(missingIds);
+        Map<String, BusinessSearchProjection> loaded;
+        try {
+            loaded = new HashMap<>(circuitBreakers.redis().execute(() -> projectionRepository.findAll(ids)));
+        } catch (CircuitOpenException | RedisConnectionFailureException | QueryTimeoutException e) {
+            Map<String, BusinessSearchProjection> fromDatabase = new HashMap<>();
+            findInDatabase(ids).forEach(projection -> fromDatabase.put(projection.id(), projection));
+            return fromDatabase;
+        }
+        if (loaded.size() == ids.size()) {
+            return loaded;
+        }
+
+        List<String> notInRedis = ids.stream()
+                .filter(id -> !loaded.containsKey(id))
+                .toList();
+        List<BusinessSearchProjection> repaired = findInDatabase(notInRedis);
+        projectionRepository.saveAllIfAbsent(repaired);
+        repaired.forEach(projection -> loaded.put(projection.id(), projection));
+        return loaded;
+    }
+
+    private List<BusinessSearchProjection> findInDatabase(List<String> ids) {
+        return circuitBreakers.mysql().execute(() -> businessRepository.findSearchProjectionsByIdIn(ids));
+    }
+}
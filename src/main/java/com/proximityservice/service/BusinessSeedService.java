@@ -1,9 +1,11 @@
 package com.proximityservice.service;
 
+import com.proximityservice.batch.GeoOutboxRelay;
 import com.proximityservice.domain.Business;
+import com.proximityservice.domain.GeoOutboxEvent;
 import com.proximityservice.dto.BusinessSeedRequest;
-import com.proximityservice.repository.BusinessGeoRepository;
 import com.proximityservice.repository.BusinessRepository;
+import java.util.ArrayList;
 import java.util.List;
 
 import lombok.RequiredArgsConstructor;
@@ -15,11 +17,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class BusinessSeedService {
 
     private final BusinessRepository businessRepository;
-    private final BusinessGeoRepository geoRepository;
+    private final GeoOutboxRelay outboxRelay;
 
     @Transactional
     public int seed(List<BusinessSeedRequest> requests) {
-        int count = 0;
+        List<Business> businesses = new ArrayList<>();
         for (BusinessSeedRequest req : requests) {
             Business business = new Business(
                     req.name(),
@@ -30,10 +32,10 @@ public class BusinessSeedService {
                     req.phone(),
                     req.hours()
             );
-            businessRepository.save(business);
-            geoRepository.add(business.getId(), business.getLongitude(), business.getLatitude());
-            count++;
+            businesses.add(business);
         }
-        return count;
+        businessRepository.saveAll(businesses);
+        outboxRelay.publishAll(businesses.stream().map(Business::getId).toList(), GeoOutboxEvent.Type.UPSERT);
+        return businesses.size();
     }
 }
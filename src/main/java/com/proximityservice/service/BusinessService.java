@@ -1,29 +1,26 @@
 package com.proximityservice.service;
 
+import com.proximityservice.batch.GeoOutboxRelay;
 import com.proximityservice.domain.Business;
 import com.proximityservice.domain.Category;
+import com.proximityservice.domain.GeoOutboxEvent;
 import com.proximityservice.dto.BusinessCreateRequest;
+import com.proximityservice.dto.BusinessDetailResponse;
 import com.proximityservice.dto.BusinessUpdateRequest;
 import com.proximityservice.exception.BusinessNotFoundException;
-import com.proximityservice.repository.BusinessGeoRepository;
 import com.proximityservice.repository.BusinessRepository;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.QueryTimeoutException;
-import org.springframework.data.redis.RedisConnectionFailureException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class BusinessService {
 
     private final BusinessRepository businessRepository;
-    private final BusinessGeoRepository geoRepository;
+    private final GeoOutboxRelay outboxRelay;
+    private final BusinessProjectionCache projectionCache;
+    private final SearchResponseCache responseCache;
 
     @Transactional
     public Business create(BusinessCreateRequest request) {
@@ -39,7 +36,8 @@ public class BusinessService {
                 request.hours()
         );
         businessRepository.save(business);
-        syncGeoAdd(business.getId(), business.getLongitude(), business.getLatitude());
+        outboxRelay.publish(business.getId(), GeoOutboxEvent.Type.UPSERT);
+        responseCache.invalidateAfterCommit(business.getLatitude(), business.getLongitude(), business.getCategory());
         return business;
     }
 
@@ -49,12 +47,21 @@ public class BusinessService {
                 .orElseThrow(() -> new BusinessNotFoundException(id));
     }
 
+    @Transactional(readOnly = true)
+    public BusinessDetailResponse getDetail(String id) {
+        return businessRepository.findDetailById(id)
+                .orElseThrow(() -> new BusinessNotFoundException(id));
+    }
+
     @Transactional
     public Business update(String id, BusinessUpdateRequest request) {
         Category.fromValue(request.category());
 
         Business business = businessRepository.findById(id)
                 .orElseThrow(() -> new BusinessNotFoundException(id));
+        String previousCategory = business.getCategory();
+        double previousLatitude = business.getLatitude();
+        double previousLongitude = business.getLongitude();
 
         boolean coordinatesChanged = business.update(
                 request.name(),
@@ -66,9 +73,13 @@ public class BusinessService {
                 request.hours()
         );
 
-        if (coordinatesChanged) {
-            syncGeoRemove(business.getId());
-            syncGeoAdd(business.getId(), business.getLongitude(), business.getLatitude());
+        boolean indexChanged = coordinatesChanged || !previousCategory.equals(business.getCategory());
+        outboxRelay.publish(business.getId(), indexChanged ? GeoOutboxEvent.Type.REINDEX : GeoOutboxEvent.Type.UPSERT);
+        projectionCache.evictAfterCommit(business.getId());
+        responseCache.invalidateAfterCommit(previousLatitude, previousLongitude, previousCategory);
+        if (indexChanged) {
+            responseCache.invalidateAfterCommit(
+                    business.getLatitude(), business.getLongitude(), business.getCategory());
         }
 
         return business;
@@ -80,48 +91,8 @@ public class BusinessService {
                 .orElseThrow(() -> new BusinessNotFoundException(id));
 
         businessRepository.delete(business);
-        syncGeoRemove(business.getId());
-    }
-
-    @Retryable(
-            retryFor = {RedisConnectionFailureException.class, QueryTimeoutException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
-    public void syncGeoAdd(String businessId, double longitude, double latitude) {
-        geoRepository.add(businessId, longitude, latitude);
-    }
-
-    @Retryable(
-            retryFor = {RedisConnectionFailureException.class, QueryTimeoutException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
-    public void syncGeoRemove(String businessId) {
-        geoRepository.remove(businessId);
-    }
-
-    @Recover
-    public void recoverGeoAdd(RedisConnectionFailureException ex, String businessId, double longitude, double latitude) {
-        log.error("Redis sync failed after 3 retries for GEOADD business={}, lng={}, lat={}: {}",
-                businessId, longitude, latitude, ex.getMessage());
-    }
-
-    @Recover
-    public void recoverGeoRemove(RedisConnectionFailureException ex, String businessId) {
-        log.error("Redis sync failed after 3 retries for GEOREMOVE business={}: {}",
-                businessId, ex.getMessage());
-    }
-
-    @Recover
-    public void recoverGeoAddTimeout(QueryTimeoutException ex, String businessId, double longitude, double latitude) {
-        log.error("Redis sync timed out after 3 retries for GEOADD business={}, lng={}, lat={}: {}",
-                businessId, longitude, latitude, ex.getMessage());
-    }
-
-    @Recover
-    public void recoverGeoRemoveTimeout(QueryTimeoutException ex, String businessId) {
-        log.error("Redis sync timed out after 3 retries for GEOREMOVE business={}: {}",
-                businessId, ex.getMessage());
+        outboxRelay.publish(business.getId(), GeoOutboxEvent.Type.DELETE);
+        projectionCache.evictAfterCommit(business.getId());
+        responseCache.invalidateAfterCommit(business.getLatitude(), business.getLongitude(), business.getCategory());
     }
 }
@@ -1,70 +1,244 @@
 package com.proximityservice.service;
 
-import com.proximityservice.domain.Business;
+import com.proximityservice.config.CircuitBreakers;
+import com.proximityservice.dto.BusinessSearchProjection;
 import com.proximityservice.dto.BusinessSearchResult;
+import com.proximityservice.dto.NearbySearchBatchResponse;
+import com.proximityservice.dto.NearbySearchPoint;
 import com.proximityservice.dto.NearbySearchResponse;
-import com.proximityservice.repository.BusinessGeoRepository;
-import com.proximityservice.repository.BusinessRepository;
+import com.proximityservice.exception.CircuitOpenException;
+import com.proximityservice.geo.GeoCursor;
+import com.proximityservice.geo.GeoHit;
+import com.proximityservice.geo.GeoIndex;
+import com.proximityservice.geo.GeoQuery;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.geo.GeoResult;
-import org.springframework.data.geo.GeoResults;
-import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class NearbySearchService {
 
-    private final BusinessGeoRepository geoRepository;
-    private final BusinessRepository businessRepository;
+    private final GeoIndex geoIndex;
+    private final GeoIndex fallbackIndex;
+    private final BusinessProjectionCache projectionCache;
+    private final SearchResponseCache responseCache;
+    private final CircuitBreakers circuitBreakers;
+    private final Counter fallbacks;
+    private final Counter degraded;
+    private final SingleFlight<SearchKey, NearbySearchResponse> singleFlight;
 
     private static final int DEFAULT_LIMIT = 20;
+    static final String LOCATION_ONLY_MESSAGE =
+            "업체 정보를 일시적으로 불러올 수 없어 일부 결과는 위치와 거리만 표시합니다.";
+
+    public NearbySearchService(GeoIndex geoIndex,
+                               @Qualifier("fallbackGeoIndex") GeoIndex fallbackIndex,
+                               BusinessProjectionCache projectionCache,
+                               SearchResponseCache responseCache,
+                               CircuitBreakers circuitBreakers,
+                               MeterRegistry meterRegistry,
+                               @Value("${proximity.search.single-flight.max-wait:500ms}") Duration maxWait) {
+        this.geoIndex = geoIndex;
+        this.fallbackIndex = fallbackIndex;
+        this.projectionCache = projectionCache;
+        this.responseCache = responseCache;
+        this.circuitBreakers = circuitBreakers;
+        this.fallbacks = Counter.builder("search.fallback")
+                .description("Searches served by the MySQL spatial index because Redis was unavailable")
+                .register(meterRegistry);
+        this.degraded = Counter.builder("search.degraded")
+                .description("Searches answered with locations only because business projections were unavailable")
+                .register(meterRegistry);
+        this.singleFlight = new SingleFlight<>("search", maxWait, meterRegistry);
+    }
 
     public NearbySearchResponse searchNearby(double latitude, double longitude, int radius) {
         return searchNearby(latitude, longitude, radius, DEFAULT_LIMIT);
     }
 
     public NearbySearchResponse searchNearby(double latitude, double longitude, int radius, int limit) {
-        GeoResults<GeoLocation<String>> geoResults =
-                geoRepository.searchNearby(longitude, latitude, radius, limit);
+        return searchNearby(latitude, longitude, radius, limit, List.of());
+    }
+
+    public NearbySearchResponse searchNearby(double latitude, double longitude, int radius, int limit,
+                                             List<String> categories) {
+        return searchNearby(latitude, longitude, radius, limit, categories, null);
+    }
+
+    public NearbySearchResponse searchNearby(double latitude, double longitude, int radius, int limit,
+                                             List<String> categories, GeoCursor after) {
+        SearchKey key = new SearchKey(Math.round(latitude * 1e6), Math.round(longitude * 1e6), radius, limit,
+                Set.copyOf(categories), after);
+        return singleFlight.execute(key, () -> search(latitude, longitude, radius, limit, categories, after));
+    }
 
-        if (geoResults == null || geoResults.getContent().isEmpty()) {
+    private NearbySearchResponse search(double latitude, double longitude, int radius, int limit,
+                                        List<String> categories, GeoCursor after) {
+        SearchPage page = findPage(latitude, longitude, radius, limit, categories, after);
+
+        if (page.hits().isEmpty()) {
             return new NearbySearchResponse(0, List.of(),
                     "검색 결과가 없습니다. 반경을 넓혀서 다시 검색해 보세요.");
         }
 
-        List<String> businessIds = geoResults.getContent().stream()
-                .map(result -> result.getContent().getName())
+        List<BusinessSearchResult> results = new ArrayList<>(page.hits().size());
+        boolean complete = hydrate(page, page.hits().size(), results::add);
+        return new NearbySearchResponse(results.size(), results, complete ? null : LOCATION_ONLY_MESSAGE,
+                page.nextCursor());
+    }
+
+    public NearbySearchBatchResponse searchBatch(List<NearbySearchPoint> points) {
+        List<GeoQuery> queries = points.stream()
+                .map(point -> GeoQuery.of(point.longitude(), point.latitude(), point.radiusOrDefault(),
+                        point.limitOrDefault(), point.categoriesOrEmpty()))
                 .toList();
+        List<List<GeoHit>> hitsPerQuery;
+        try {
+            hitsPerQuery = circuitBreakers.redis().execute(() -> geoIndex.searchAll(queries));
+        } catch (CircuitOpenException | RedisConnectionFailureException | QueryTimeoutException e) {
+            hitsPerQuery = circuitBreakers.mysql().execute(() -> fallback(e).searchAll(queries));
+        }
+
+        Set<String> businessIds = new LinkedHashSet<>();
+        hitsPerQuery.forEach(hits -> hits.forEach(hit -> businessIds.add(hit.id())));
+        Optional<Map<String, BusinessSearchProjection>> loaded = businessIds.isEmpty()
+                ? Optional.of(Map.of())
+                : loadProjections(businessIds);
+        boolean complete = loaded.isPresent();
+        Map<String, BusinessSearchProjection> projections =
+                loaded.orElseGet(() -> projectionCache.getAllPresent(businessIds));
+
+        List<NearbySearchResponse> responses = new ArrayList<>(hitsPerQuery.size());
+        for (List<GeoHit> hits : hitsPerQuery) {
+            if (hits.isEmpty()) {
+                responses.add(new NearbySearchResponse(0, List.of(),
+                        "검색 결과가 없습니다. 반경을 넓혀서 다시 검색해 보세요."));
+                continue;
+            }
+            List<BusinessSearchResult> results = new ArrayList<>(hits.size());
+            hydrate(hits, projections, complete, results::add);
+            responses.add(new NearbySearchResponse(results.size(), results,
+                    complete ? null : LOCATION_ONLY_MESSAGE));
+        }
+        return new NearbySearchBatchResponse(responses);
+    }
+
+    public SearchPage findPage(double latitude, double longitude, int radius, int limit,
+                               List<String> categories, GeoCursor after) {
+        GeoQuery query = GeoQuery.of(longitude, latitude, radius, limit + 1, categories, after);
+        Optional<SearchResponseCache.CachedPage> cached;
+        List<GeoHit> hits;
+        try {
+            cached = responseCache.find(latitude, longitude, radius, limit + 1, categories, after);
+            hits = cached.map(SearchResponseCache.CachedPage::hits)
+                    .orElseGet(() -> circuitBreakers.redis().execute(() -> geoIndex.search(query)));
+        } catch (CircuitOpenException | RedisConnectionFailureException | QueryTimeoutException e) {
+            cached = Optional.empty();
+            hits = searchFallback(query, e);
+        }
+        String nextCursor = null;
+        if (hits.size() > limit) {
+            hits = hits.subList(0, limit);
+            nextCursor = GeoCursor.after(hits.get(limit - 1)).encode();
+        }
+        return new SearchPage(hits, nextCursor,
+                cached.map(SearchResponseCache.CachedPage::projections).orElse(null));
+    }
+
+    public List<GeoHit> searchIndex(GeoQuery query) {
+        try {
+            return circuitBreakers.redis().execute(() -> geoIndex.search(query));
+        } catch (CircuitOpenException | RedisConnectionFailureException | QueryTimeoutException e) {
+            return searchFallback(query, e);
+        }
+    }
+
+    public List<GeoHit> searchFallback(GeoQuery query, RuntimeException cause) {
+        return circuitBreakers.mysql().execute(() -> fallback(cause).search(query));
+    }
+
+    public boolean hydrate(SearchPage page, int batchSize, Consumer<BusinessSearchResult> sink) {
+        List<GeoHit> hits = page.hits();
+        boolean complete = true;
+        for (int from = 0; from < hits.size(); from += batchSize) {
+            List<GeoHit> batch = hits.subList(from, Math.min(from + batchSize, hits.size()));
+            if (page.projections() != null) {
+                hydrate(batch, page.projections(), true, sink);
+                continue;
+            }
+            List<String> ids = batch.stream().map(GeoHit::id).toList();
+            Optional<Map<String, BusinessSearchProjection>> loaded = loadProjections(ids);
+            complete &= loaded.isPresent();
+            hydrate(batch, loaded.orElseGet(() -> projectionCache.getAllPresent(ids)), loaded.isPresent(), sink);
+        }
+        return complete;
+    }
 
-        Map<String, Business> businessMap = businessRepository.findAllByIdIn(businessIds)
-                .stream()
-                .collect(Collectors.toMap(Business::getId, Function.identity()));
-
-        List<BusinessSearchResult> results = new ArrayList<>();
-        for (GeoResult<GeoLocation<String>> geoResult : geoResults.getContent()) {
-            String id = geoResult.getContent().getName();
-            Business business = businessMap.get(id);
-            if (business != null) {
-                double distanceM = geoResult.getDistance().in(org.springframework.data.redis.domain.geo.Metrics.METERS).getValue();
-                results.add(new BusinessSearchResult(
-                        business.getId(),
-                        business.getName(),
-                        business.getAddress(),
-                        business.getLatitude(),
-                        business.getLongitude(),
-                        Math.round(distanceM * 10.0) / 10.0,
-                        business.getCategory()
-                ));
+    private void hydrate(List<GeoHit> hits, Map<String, BusinessSearchProjection> projections, boolean complete,
+                         Consumer<BusinessSearchResult> sink) {
+        for (GeoHit hit : hits) {
+            double distance = Math.round(hit.distanceMeters() * 10.0) / 10.0;
+            BusinessSearchProjection projection = projections.get(hit.id());
+            if (projection != null) {
+                sink.accept(projection.toResult(distance));
+            } else if (!complete) {
+                sink.accept(new BusinessSearchResult(
+                        hit.id(), null, null, hit.latitude(), hit.longitude(), distance, null));
             }
         }
+    }
+
+    private Optional<Map<String, BusinessSearchProjection>> loadProjections(Collection<String> ids) {
+        try {
+            return Optional.of(projectionCache.getAll(ids));
+        } catch (CircuitOpenException | DataAccessResourceFailureException | TransientDataAccessException e) {
+            recordDegraded(e);
+            return Optional.empty();
+        }
+    }
+
+    void recordDegraded(RuntimeException cause) {
+        degraded.increment();
+        log.warn("Business projections unavailable, answering with locations only: {}", cause.getMessage());
+    }
+
+    private GeoIndex fallback(RuntimeException cause) {
+        fallbacks.increment();
+        log.warn("Geo index unavailable, searching MySQL instead: {}", cause.getMessage());
+        return fallbackIndex;
+    }
+
+    private record SearchKey(
+            long latE6,
+            long lngE6,
+            int radius,
+            int limit,
+            Set<String> categories,
+            GeoCursor after
+    ) {
+    }
 
-        return new NearbySearchResponse(results.size(), results);
+    public record SearchPage(
+            List<GeoHit> hits,
+            String nextCursor,
+            Map<String, BusinessSearchProjection> projections
+    ) {
     }
 }
@@ -0,0 +1,96 @@
+package com.proximityservice.service;
+
+import com.proximityservice.dto.BusinessSearchResult;
+import com.proximityservice.dto.NearbySearchResponse;
+import com.proximityservice.geo.GeoHit;
+import com.proximityservice.geo.GeoQuery;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class NearestSearchService {
+
+    private static final double MIN_RADIUS_M = 10.0;
+    private static final double MIN_GROWTH = 1.5;
+    private static final double GROWTH_SAFETY = 1.25;
+    private static final double EMPTY_GROWTH = 4.0;
+    private static final double DENSITY_SMOOTHING = 0.2;
+    private static final int MAX_EXPANSIONS = 8;
+
+    private final NearbySearchService searchService;
+    private final double maxRadiusMeters;
+    private final DistributionSummary expansions;
+    private final Counter exhausted;
+
+    private volatile double densityPerSquareMeter;
+
+    public NearestSearchService(NearbySearchService searchService,
+                                MeterRegistry meterRegistry,
+                                @Value("${proximity.search.knn.max-radius:20000}") double maxRadiusMeters,
+                                @Value("${proximity.search.knn.initial-density-per-km2:100}") double initialDensity) {
+        this.searchService = searchService;
+        this.maxRadiusMeters = maxRadiusMeters;
+        this.densityPerSquareMeter = initialDensity / 1_000_000.0;
+        this.expansions = DistributionSummary.builder("search.knn.expansions")
+                .description("Radius expansions needed per k-nearest query")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("search.knn.exhausted")
+                .description("k-nearest queries that reached the maximum radius with fewer than k results")
+                .register(meterRegistry);
+    }
+
+    public NearbySearchResponse searchNearest(double latitude, double longitude, int k, List<String> categories) {
+        double radius = clamp(Math.sqrt(k / (Math.PI * densityPerSquareMeter)) * GROWTH_SAFETY);
+        List<GeoHit> hits = searchService.searchIndex(GeoQuery.of(longitude, latitude, radius, k, categories));
+        int expansionCount = 0;
+        while (hits.size() < k && radius < maxRadiusMeters && expansionCount < MAX_EXPANSIONS) {
+            radius = clamp(nextRadius(radius, hits.size(), k));
+            hits = searchService.searchIndex(GeoQuery.of(longitude, latitude, radius, k, categories));
+            expansionCount++;
+        }
+        expansions.record(expansionCount);
+        learnDensity(hits, radius, k);
+
+        if (hits.size() < k) {
+            exhausted.increment();
+        }
+        if (hits.isEmpty()) {
+            return new NearbySearchResponse(0, List.of(),
+                    "최대 검색 거리(" + Math.round(maxRadiusMeters) + "m) 안에 업체가 없습니다.");
+        }
+
+        List<BusinessSearchResult> results = new ArrayList<>(hits.size());
+        boolean complete = searchService.hydrate(
+                new NearbySearchService.SearchPage(hits, null, null), hits.size(), results::add);
+        return new NearbySearchResponse(results.size(), results,
+                complete ? null : NearbySearchService.LOCATION_ONLY_MESSAGE);
+    }
+
+    private double nextRadius(double radius, int found, int k) {
+        if (found == 0) {
+            return radius * EMPTY_GROWTH;
+        }
+        return radius * Math.max(MIN_GROWTH, Math.sqrt((double) k / found) * GROWTH_SAFETY);
+    }
+
+    private void learnDensity(List<GeoHit> hits, double radius, int k) {
+        if (hits.isEmpty()) {
+            return;
+        }
+        double reach = hits.size() == k
+                ? Math.max(MIN_RADIUS_M, hits.get(hits.size() - 1).distanceMeters())
+                : radius;
+        double observed = hits.size() / (Math.PI * reach * reach);
+        densityPerSquareMeter += DENSITY_SMOOTHING * (observed - densityPerSquareMeter);
+    }
+
+    private double clamp(double radius) {
+        return Math.max(MIN_RADIUS_M, Math.min(radius, maxRadiusMeters));
+    }
+}
@@ -0,0 +1,152 @@
+package com.proximityservice.service;
+
+import com.proximityservice.config.CircuitBreakers;
+import com.proximityservice.dto.BusinessSearchProjection;
+import com.proximityservice.dto.BusinessSearchResult;
+import com.proximityservice.dto.NearbySearchResponse;
+import com.proximityservice.exception.CircuitOpenException;
+import com.proximityservice.geo.GeoCursor;
+import com.proximityservice.geo.GeoHit;
+import com.proximityservice.geo.GeoIndex;
+import com.proximityservice.geo.GeoQuery;
+import com.proximityservice.geo.RedisGeoIndex;
+import com.proximityservice.repository.BusinessGeoRepository;
+import com.proximityservice.repository.ReactiveBusinessGeoRepository;
+import com.proximityservice.repository.ReactiveBusinessProjectionRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.domain.geo.Metrics;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveNearbySearchService {
+
+    private static final int HYDRATE_CONCURRENCY = 32;
+
+    private final GeoIndex geoIndex;
+    private final ReactiveBusinessGeoRepository geoRepository;
+    private final ReactiveBusinessProjectionRepository projectionRepository;
+    private final BusinessProjectionCache projectionCache;
+    private final NearbySearchService searchService;
+    private final CircuitBreakers circuitBreakers;
+
+    public Mono<NearbySearchResponse> searchNearby(double latitude, double longitude, int radius, int limit,
+                                                   List<String> categories, GeoCursor after) {
+        return findPage(latitude, longitude, radius, limit, categories, after)
+                .flatMap(page -> {
+                    if (page.hits().isEmpty()) {
+                        return Mono.just(new NearbySearchResponse(0, List.of(),
+                                "검색 결과가 없습니다. 반경을 넓혀서 다시 검색해 보세요."));
+                    }
+                    AtomicBoolean degraded = new AtomicBoolean();
+                    return hydrate(page, degraded).collectList()
+                            .map(results -> new NearbySearchResponse(results.size(), results,
+                                    degraded.get() ? NearbySearchService.LOCATION_ONLY_MESSAGE : null,
+                                    page.nextCursor()));
+                });
+    }
+
+    public Mono<NearbySearchService.SearchPage> findPage(double latitude, double longitude, int radius, int limit,
+                                                          List<String> categories, GeoCursor after) {
+        GeoQuery query = GeoQuery.of(longitude, latitude, radius, limit + 1, categories, after);
+        return search(query).map(hits -> {
+            String nextCursor = null;
+            if (hits.size() > limit) {
+                hits = hits.subList(0, limit);
+                nextCursor = GeoCursor.after(hits.get(limit - 1)).encode();
+            }
+            return new NearbySearchService.SearchPage(hits, nextCursor, null);
+        });
+    }
+
+    public Flux<BusinessSearchResult> hydrate(NearbySearchService.SearchPage page) {
+        return hydrate(page, new AtomicBoolean());
+    }
+
+    private Flux<BusinessSearchResult> hydrate(NearbySearchService.SearchPage page, AtomicBoolean degraded) {
+        Map<String, BusinessSearchProjection> cached = projectionCache.getAllPresent(
+                page.hits().stream().map(GeoHit::id).toList());
+        return Flux.fromIterable(page.hits())
+                .flatMapSequential(hit -> {
+                    double distance = Math.round(hit.distanceMeters() * 10.0) / 10.0;
+                    return projection(hit.id(), cached)
+                            .map(projection -> projection.toResult(distance))
+                            .onErrorResume(ReactiveNearbySearchService::isProjectionUnavailable, e -> {
+                                if (degraded.compareAndSet(false, true)) {
+                                    searchService.recordDegraded((RuntimeException) e);
+                                }
+                                return Mono.just(new BusinessSearchResult(
+                                        hit.id(), null, null, hit.latitude(), hit.longitude(), distance, null));
+                            });
+                }, HYDRATE_CONCURRENCY);
+    }
+
+    private Mono<List<GeoHit>> search(GeoQuery query) {
+        if (!(geoIndex instanceof RedisGeoIndex)) {
+            return Mono.fromCallable(() -> searchService.searchIndex(query))
+                    .subscribeOn(Schedulers.boundedElastic());
+        }
+        return circuitBreakers.redis().execute(Mono.defer(() -> searchRedis(query)))
+                .onErrorResume(ReactiveNearbySearchService::isRedisUnavailable,
+                        e -> Mono.fromCallable(() -> searchService.searchFallback(query, (RuntimeException) e))
+                                .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    private Mono<List<GeoHit>> searchRedis(GeoQuery query) {
+        Flux<GeoResult<GeoLocation<String>>> results = query.categories().isEmpty()
+                ? geoRepository.searchNearby(toSearch(null, query))
+                : Flux.fromIterable(query.categories())
+                        .flatMap(category -> geoRepository.searchNearby(toSearch(category, query)));
+        return results
+                .map(result -> new GeoHit(
+                        result.getContent().getName(),
+                        result.getDistance().in(Metrics.METERS).getValue(),
+                        result.getContent().getPoint().getY(),
+                        result.getContent().getPoint().getX()))
+                .sort(GeoHit.BY_DISTANCE)
+                .take(query.limit())
+                .collectList();
+    }
+
+    private Mono<BusinessSearchProjection> projection(String businessId, Map<String, BusinessSearchProjection> cached) {
+        BusinessSearchProjection projection = cached.get(businessId);
+        if (projection != null) {
+            return Mono.just(projection);
+        }
+        return projectionRepository.find(businessId)
+                .doOnNext(projectionCache::put)
+                .switchIfEmpty(Mono.fromCallable(() -> projectionCache.getAll(List.of(businessId)).get(businessId))
+                        .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    private static boolean isRedisUnavailable(Throwable e) {
+        return e instanceof CircuitOpenException
+                || e instanceof RedisConnectionFailureException
+                || e instanceof QueryTimeoutException;
+    }
+
+    private static boolean isProjectionUnavailable(Throwable e) {
+        return e instanceof CircuitOpenException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransientDataAccessException;
+    }
+
+    private static BusinessGeoRepository.NearbySearch toSearch(String category, GeoQuery query) {
+        GeoCursor after = query.after();
+        return new BusinessGeoRepository.NearbySearch(
+                category, query.longitude(), query.latitude(), query.radiusMeters(), query.limit(),
+                after != null ? after.distanceMeters() : null, after != null ? after.id() : null);
+    }
+}
@@ -0,0 +1,383 @@
+package com.proximityservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.proximityservice.config.CircuitBreakers;
+import com.proximityservice.dto.BusinessSearchProjection;
+import com.proximityservice.geo.GeoCursor;
+import com.proximityservice.geo.GeoHit;
+import com.proximityservice.geo.GeoIndex;
+import com.proximityservice.geo.GeoQuery;
+import com.proximityservice.geo.GeohashGrid;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@Slf4j
+public class SearchResponseCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "search:cache:invalidate";
+
+    private static final int[] RADIUS_BUCKETS = {500, 1000, 2000, 5000, 10000, 20000};
+    private static final double DISTANCE_SLACK_M = 1.0;
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final int TILE_SHIFT = 4;
+
+    private final GeoIndex geoIndex;
+    private final BusinessProjectionCache projectionCache;
+    private final CircuitBreakers circuitBreakers;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final int cellsPerAxis;
+    private final int tileShift;
+    private final int candidateLimit;
+    private final Cache<Key, Entry> cache;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final ReentrantLock registrationLock = new ReentrantLock();
+    private final Map<Long, Set<Key>> keysByTile = new ConcurrentHashMap<>();
+    private final Map<Key, Long> registrations = new ConcurrentHashMap<>();
+    private final Map<Key, Long> staleSince = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter fallbacks;
+    private final Counter invalidations;
+    private final Timer staleness;
+
+    public SearchResponseCache(GeoIndex geoIndex,
+                               BusinessProjectionCache projectionCache,
+                               CircuitBreakers circuitBreakers,
+                               StringRedisTemplate redisTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${proximity.cache.search.enabled:false}") boolean enabled,
+                               @Value("${proximity.cache.search.cell-bits:16}") int cellBits,
+                               @Value("${proximity.cache.search.candidate-limit:200}") int candidateLimit,
+                               @Value("${proximity.cache.search.max-entries:10000}") long maxEntries,
+                               @Value("${proximity.cache.search.ttl:30s}") Duration ttl) {
+        this.geoIndex = geoIndex;
+        this.projectionCache = projectionCache;
+        this.circuitBreakers = circuitBreakers;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.cellsPerAxis = 1 << cellBits;
+        this.tileShift = Math.min(TILE_SHIFT, cellBits);
+        this.candidateLimit = candidateLimit;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .evictionListener((Key key, Entry entry, RemovalCause cause) -> {
+                    if (entry != null) {
+                        unregister(key, entry.loadId());
+                    }
+                })
+                .build();
+
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.fallbacks = requests(meterRegistry, "fallback");
+        this.invalidations = Counter.builder("search.response.cache.invalidations")
+                .description("Search response cache entries invalidated by business writes")
+                .register(meterRegistry);
+        this.staleness = Timer.builder("search.response.cache.staleness")
+                .description("Age of search response cache entries when served")
+                .register(meterRegistry);
+        meterRegistry.gauge("search.response.cache.size", cache, Cache::estimatedSize);
+    }
+
+    public Optional<CachedPage> find(double latitude, double longitude, int radius, int limit,
+                                     Collection<String> categories, GeoCursor after) {
+        if (!enabled || radius > RADIUS_BUCKETS[RADIUS_BUCKETS.length - 1]) {
+            return Optional.empty();
+        }
+
+        Key key = keyFor(latitude, longitude, radius, categories);
+        AtomicBoolean loaded = new AtomicBoolean();
+        Entry entry = lookup(key, loaded);
+        if (isStale(key, entry)) {
+            cache.asMap().remove(key, entry);
+            entry = lookup(key, loaded);
+        }
+
+        Area area = entry.area();
+        double exactWithin = entry.coveredMeters()
+                - GeohashGrid.distanceMeters(latitude, longitude, area.centerLat(), area.centerLng());
+        List<GeoHit> page = new ArrayList<>();
+        for (BusinessSearchProjection projection : entry.candidates()) {
+            double distance = GeohashGrid.distanceMeters(
+                    latitude, longitude, projection.latitude(), projection.longitude());
+            if (distance <= radius && (after == null || after.precedes(distance, projection.id()))) {
+                page.add(new GeoHit(projection.id(), distance, projection.latitude(), projection.longitude()));
+            }
+        }
+        page.sort(GeoHit.BY_DISTANCE);
+        if (page.size() > limit) {
+            page = page.subList(0, limit);
+        }
+
+        boolean exact = radius <= exactWithin
+                || (page.size() == limit && page.get(limit - 1).distanceMeters() <= exactWithin);
+        if (!exact) {
+            fallbacks.increment();
+            return Optional.empty();
+        }
+
+        if (loaded.get()) {
+            misses.increment();
+        } else {
+            hits.increment();
+            staleness.record(System.nanoTime() - entry.loadedAtNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        Map<String, BusinessSearchProjection> projections = new HashMap<>();
+        for (BusinessSearchProjection projection : entry.candidates()) {
+            projections.put(projection.id(), projection);
+        }
+        return Optional.of(new CachedPage(page, projections));
+    }
+
+    public void invalidate(double latitude, double longitude, String category) {
+        invalidateLocally(latitude, longitude, category);
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    String.join("|", instanceId, Double.toString(latitude), Double.toString(longitude), category));
+        } catch (DataAccessException e) {
+            log.warn("Search cache invalidation broadcast failed, other instances expire by TTL: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length == 4 && !instanceId.equals(parts[0])) {
+            invalidateLocally(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]), parts[3]);
+        }
+    }
+
+    public void invalidateAfterCommit(double latitude, double longitude, String category) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(latitude, longitude, category);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(latitude, longitude, category);
+            }
+        });
+    }
+
+    private void invalidateLocally(double latitude, double longitude, String category) {
+        long version = writes.incrementAndGet();
+        Set<Key> keys = keysByTile.get(tileId(latCell(latitude) >> tileShift,
+                Math.floorMod(lngCell(longitude), cellsPerAxis) >> tileShift));
+        if (keys == null) {
+            return;
+        }
+        for (Key key : keys) {
+            if ((key.categories().isEmpty() || key.categories().contains(category))
+                    && areaOf(key).covers(latitude, longitude)) {
+                staleSince.merge(key, version, Math::max);
+                invalidations.increment();
+            }
+        }
+    }
+
+    private Entry lookup(Key key, AtomicBoolean loaded) {
+        return cache.get(key, k -> {
+            loaded.set(true);
+            return load(k);
+        });
+    }
+
+    private boolean isStale(Key key, Entry entry) {
+        Long since = staleSince.get(key);
+        return since != null && entry.version() < since;
+    }
+
+    private Key keyFor(double latitude, double longitude, int radius, Collection<String> categories) {
+        int latCell = latCell(latitude);
+        int lngCell = Math.floorMod(lngCell(longitude), cellsPerAxis);
+        int bucket = RADIUS_BUCKETS[RADIUS_BUCKETS.length - 1];
+        for (int candidate : RADIUS_BUCKETS) {
+            if (radius <= candidate) {
+                bucket = candidate;
+                break;
+            }
+        }
+        return new Key(latCell, lngCell, bucket, Set.copyOf(categories));
+    }
+
+    private Entry load(Key key) {
+        long loadId = loads.incrementAndGet();
+        Area area = areaOf(key);
+        register(key, area, loadId);
+        long version = writes.get();
+        try {
+            GeoQuery query = GeoQuery.of(area.centerLng(), area.centerLat(), area.radius(), candidateLimit,
+                    key.categories());
+            List<GeoHit> hits = circuitBreakers.redis().execute(() -> geoIndex.search(query));
+            Map<String, BusinessSearchProjection> projections = projectionCache.getAll(
+                    hits.stream().map(GeoHit::id).toList());
+            List<BusinessSearchProjection> candidates = hits.stream()
+                    .map(hit -> projections.get(hit.id()))
+                    .filter(projection -> projection != null)
+                    .toList();
+
+            double covered = hits.size() < candidateLimit
+                    ? area.radius()
+                    : hits.get(hits.size() - 1).distanceMeters();
+            return new Entry(area, covered - DISTANCE_SLACK_M, candidates, System.nanoTime(), version, loadId);
+        } catch (RuntimeException e) {
+            unregister(key, loadId);
+            throw e;
+        }
+    }
+
+    private Area areaOf(Key key) {
+        double latStep = 180.0 / cellsPerAxis;
+        double lngStep = 360.0 / cellsPerAxis;
+        double south = key.latCell() * latStep - 90.0;
+        double west = key.lngCell() * lngStep - 180.0;
+        double centerLat = south + latStep / 2;
+        double centerLng = west + lngStep / 2;
+        double halfDiagonal = Math.max(
+                GeohashGrid.distanceMeters(centerLat, centerLng, south, west),
+                GeohashGrid.distanceMeters(centerLat, centerLng, south + latStep, west));
+        return new Area(centerLat, centerLng, key.radiusBucket() + halfDiagonal);
+    }
+
+    private void register(Key key, Area area, long loadId) {
+        registrationLock.lock();
+        try {
+            registrations.put(key, loadId);
+            for (long tile : tilesOf(area)) {
+                keysByTile.computeIfAbsent(tile, t -> ConcurrentHashMap.newKeySet()).add(key);
+            }
+        } finally {
+            registrationLock.unlock();
+        }
+    }
+
+    private void unregister(Key key, long loadId) {
+        registrationLock.lock();
+        try {
+            if (!registrations.remove(key, loadId)) {
+                return;
+            }
+            staleSince.remove(key);
+            for (long tile : tilesOf(areaOf(key))) {
+                keysByTile.computeIfPresent(tile, (t, keys) -> {
+                    keys.remove(key);
+                    return keys.isEmpty() ? null : keys;
+                });
+            }
+        } finally {
+            registrationLock.unlock();
+        }
+    }
+
+    private List<Long> tilesOf(Area area) {
+        double latSpan = (area.radius() + DISTANCE_SLACK_M) / METERS_PER_DEGREE;
+        double lngSpan = latSpan / Math.max(Math.cos(Math.toRadians(area.centerLat())), 0.01);
+        int tilesPerAxis = cellsPerAxis >> tileShift;
+        int southTile = latCell(area.centerLat() - latSpan) >> tileShift;
+        int northTile = latCell(area.centerLat() + latSpan) >> tileShift;
+        int westTile = lngCell(area.centerLng() - lngSpan) >> tileShift;
+        int eastTile = Math.min(lngCell(area.centerLng() + lngSpan) >> tileShift, westTile + tilesPerAxis - 1);
+        List<Long> tiles = new ArrayList<>();
+        for (int latTile = southTile; latTile <= northTile; latTile++) {
+            for (int lngTile = westTile; lngTile <= eastTile; lngTile++) {
+                tiles.add(tileId(latTile, Math.floorMod(lngTile, tilesPerAxis)));
+            }
+        }
+        return tiles;
+    }
+
+    private int latCell(double latitude) {
+        return Math.clamp((long) Math.floor((latitude + 90.0) / 180.0 * cellsPerAxis), 0, cellsPerAxis - 1);
+    }
+
+    private int lngCell(double longitude) {
+        return (int) Math.floor((longitude + 180.0) / 360.0 * cellsPerAxis);
+    }
+
+    private static long tileId(int latTile, int lngTile) {
+        return (long) latTile << 32 | lngTile;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("search.response.cache.requests")
+                .description("Search response cache lookups by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public record CachedPage(
+            List<GeoHit> hits,
+            Map<String, BusinessSearchProjection> projections
+    ) {
+    }
+
+    private record Key(
+            int latCell,
+            int lngCell,
+            int radiusBucket,
+            Set<String> categories
+    ) {
+    }
+
+    private record Area(
+            double centerLat,
+            double centerLng,
+            double radius
+    ) {
+        boolean covers(double latitude, double longitude) {
+            return GeohashGrid.distanceMeters(centerLat, centerLng, latitude, longitude) <= radius + DISTANCE_SLACK_M;
+        }
+    }
+
+    private record Entry(
+            Area area,
+            double coveredMeters,
+            List<BusinessSearchProjection> candidates,
+            long loadedAtNanos,
+            long version,
+            long loadId
+    ) {
+    }
+}
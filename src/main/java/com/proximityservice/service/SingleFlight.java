@@ -0,0 +1,89 @@
+package com.proximityservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter timeouts;
+
+    SingleFlight(String name, Duration maxWait, MeterRegistry meterRegistry) {
+        this.maxWaitNanos = maxWait.toNanos();
+        this.leaders = calls(meterRegistry, name, "leader");
+        this.followers = calls(meterRegistry, name, "follower");
+        this.timeouts = calls(meterRegistry, name, "timeout");
+        Gauge.builder(name + ".single.flight.collapse.ratio", this, SingleFlight::collapseRatio)
+                .description("Share of calls answered by joining an identical in-flight call")
+                .register(meterRegistry);
+        Gauge.builder(name + ".single.flight.in.flight", inFlight, ConcurrentMap::size)
+                .description("Distinct calls currently executing")
+                .register(meterRegistry);
+    }
+
+    V execute(K key, Supplier<V> call) {
+        if (maxWaitNanos <= 0) {
+            return call.get();
+        }
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing == null) {
+            return lead(key, flight, call);
+        }
+        try {
+            V value = existing.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            followers.increment();
+            return value;
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            return call.get();
+        } catch (ExecutionException e) {
+            followers.increment();
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private V lead(K key, CompletableFuture<V> flight, Supplier<V> call) {
+        leaders.increment();
+        try {
+            V value = call.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private double collapseRatio() {
+        double total = leaders.count() + followers.count() + timeouts.count();
+        return total == 0 ? 0.0 : followers.count() / total;
+    }
+
+    private static Counter calls(MeterRegistry meterRegistry, String name, String role) {
+        return Counter.builder(name + ".single.flight.calls")
+                .description("Calls by whether they executed, joined an in-flight call, or gave up waiting")
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS business (
+    id         VARCHAR(36)    NOT NULL,
+    name       VARCHAR(255)   NOT NULL,
+    address    VARCHAR(500)   NOT NULL,
+    latitude   DECIMAL(10, 7) NOT NULL,
+    longitude  DECIMAL(10, 7) NOT NULL,
+    category   VARCHAR(50)    NOT NULL,
+    phone      VARCHAR(20),
+    hours      VARCHAR(100),
+    created_at DATETIME(6)    NOT NULL,
+    updated_at DATETIME(6)    NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS geo_outbox (
+    id          BIGINT                              NOT NULL AUTO_INCREMENT,
+    business_id VARCHAR(36)                         NOT NULL,
+    type        ENUM ('UPSERT', 'REINDEX', 'DELETE') NOT NULL,
+    attempts    INT                                 NOT NULL,
+    created_at  DATETIME(6)                         NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,14 @@
+SET @add_spatial_columns = (
+    SELECT IF(COUNT(*) = 0, '
+        ALTER TABLE business
+            ADD COLUMN location POINT SRID 4326 GENERATED ALWAYS AS (ST_PointFromText(
+                CONCAT(''POINT('', longitude, '' '', latitude, '')''), 4326, ''axis-order=long-lat'')) STORED NOT NULL,
+            ADD COLUMN geohash CHAR(12) GENERATED ALWAYS AS (ST_GeoHash(longitude, latitude, 12)) STORED,
+            ADD SPATIAL INDEX idx_business_location (location),
+            ADD INDEX idx_business_geohash (geohash)', 'DO 0')
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'business' AND COLUMN_NAME = 'location');
+
+PREPARE add_spatial_columns FROM @add_spatial_columns;
+EXECUTE add_spatial_columns;
+DEALLOCATE PREPARE add_spatial_columns;
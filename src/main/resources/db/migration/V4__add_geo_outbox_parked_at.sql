@@ -0,0 +1,3 @@
+ALTER TABLE geo_outbox
+    ADD COLUMN parked_at DATETIME(6) NULL,
+    ADD INDEX idx_geo_outbox_parked_at (parked_at, id);
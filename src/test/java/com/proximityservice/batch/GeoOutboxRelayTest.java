@@ -0,0 +1,229 @@
+package com.proximityservice.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.proximityservice.domain.Business;
+import com.proximityservice.domain.GeoOutboxEvent;
+import com.proximityservice.dto.BusinessSearchProjection;
+import com.proximityservice.geo.GeoEntry;
+import com.proximityservice.geo.GeoIndex;
+import com.proximityservice.repository.BusinessProjectionRepository;
+import com.proximityservice.repository.BusinessRepository;
+import com.proximityservice.repository.GeoOutboxRepository;
+import com.proximityservice.service.BusinessProjectionCache;
+import com.proximityservice.service.SearchResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class GeoOutboxRelayTest {
+
+    private static final BusinessSearchProjection CAFE =
+            new BusinessSearchProjection("cafe", "카페", "서울시 강남구", 37.5, 127.0, "cafe");
+    private static final BusinessSearchProjection BAR =
+            new BusinessSearchProjection("bar", "바", "서울시 마포구", 37.55, 126.92, "bar");
+
+    @Mock
+    private GeoOutboxRepository outboxRepository;
+
+    @Mock
+    private BusinessRepository businessRepository;
+
+    @Mock
+    private GeoIndex geoIndex;
+
+    @Mock
+    private BusinessProjectionRepository projectionRepository;
+
+    @Mock
+    private BusinessProjectionCache projectionCache;
+
+    @Mock
+    private SearchResponseCache responseCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void drain_shouldApplyLatestStatePerBusinessAndDeleteEvents() {
+        List<GeoOutboxEvent> events = List.of(
+                event(1L, "cafe", GeoOutboxEvent.Type.UPSERT),
+                event(2L, "bar", GeoOutboxEvent.Type.REINDEX),
+                event(3L, "bar", GeoOutboxEvent.Type.UPSERT),
+                event(4L, "gone", GeoOutboxEvent.Type.UPSERT),
+                event(5L, "gone", GeoOutboxEvent.Type.DELETE));
+        given(outboxRepository.lockOldest(500)).willReturn(events);
+        given(businessRepository.lockForShare(List.of("cafe", "bar"))).willReturn(List.of(entity(CAFE), entity(BAR)));
+
+        int relayed = newRelay().drain();
+
+        assertThat(relayed).isEqualTo(5);
+        // 같은 배치에 REINDEX가 있었으면 뒤의 UPSERT로 합쳐져도 옛 카테고리에서 먼저 지운다
+        InOrder order = inOrder(geoIndex);
+        order.verify(geoIndex).removeAll(List.of("bar", "gone"));
+        order.verify(geoIndex).addAll(List.of(
+                new GeoEntry("cafe", 127.0, 37.5, "cafe"),
+                new GeoEntry("bar", 126.92, 37.55, "bar")));
+        then(projectionRepository).should().deleteAll(List.of("gone"));
+        then(projectionCache).should().evict("gone");
+        then(outboxRepository).should().deleteAllByIdInBatch(List.of(1L, 2L, 3L, 4L, 5L));
+        assertThat(meterRegistry.get("geo.outbox.relayed").counter().count()).isEqualTo(5.0);
+    }
+
+    @Test
+    void drain_shouldRemoveBusinessDeletedBeforeRelay() {
+        given(outboxRepository.lockOldest(500)).willReturn(List.of(event(1L, "cafe", GeoOutboxEvent.Type.UPSERT)));
+        given(businessRepository.lockForShare(List.of("cafe"))).willReturn(List.of());
+
+        newRelay().drain();
+
+        then(geoIndex).should().removeAll(List.of("cafe"));
+        then(geoIndex).should().addAll(List.of());
+        then(projectionRepository).should().deleteAll(List.of("cafe"));
+    }
+
+    @Test
+    void drain_shouldInvalidateSearchCacheAtPreviousAndCurrentLocation() {
+        BusinessSearchProjection moved = new BusinessSearchProjection("cafe", "카페", "서울시 강남구", 37.6, 127.1, "bar");
+        given(outboxRepository.lockOldest(500)).willReturn(List.of(event(1L, "cafe", GeoOutboxEvent.Type.REINDEX)));
+        given(businessRepository.lockForShare(List.of("cafe"))).willReturn(List.of(entity(moved)));
+        given(projectionRepository.findAll(List.of("cafe"))).willReturn(Map.of("cafe", CAFE));
+
+        newRelay().drain();
+
+        // Redis 반영 뒤에 캐시를 비워야 그 사이 옛 위치로 다시 채워진 검색 응답이 남지 않는다
+        InOrder order = inOrder(geoIndex, responseCache);
+        order.verify(geoIndex).addAll(List.of(moved.toGeoEntry()));
+        order.verify(responseCache).invalidate(37.5, 127.0, "cafe");
+        order.verify(responseCache).invalidate(37.6, 127.1, "bar");
+    }
+
+    @Test
+    void drain_shouldKeepEventsAndBackOffWhenRedisFails() {
+        given(outboxRepository.lockOldest(500)).willReturn(List.of(event(1L, "cafe", GeoOutboxEvent.Type.UPSERT)));
+        given(businessRepository.lockForShare(List.of("cafe"))).willReturn(List.of(entity(CAFE)));
+        doThrow(new RedisConnectionFailureException("Connection refused")).when(geoIndex).addAll(any());
+        GeoOutboxRelay relay = newRelay();
+
+        assertThat(relay.drain()).isZero();
+        assertThat(relay.drain()).isZero();
+
+        // 실패한 이벤트는 지우지 않고 시도 횟수만 올린 뒤, 백오프 동안은 다시 읽지 않는다
+        then(outboxRepository).should(times(1)).lockOldest(anyInt());
+        then(outboxRepository).should().incrementAttempts(List.of(1L));
+        then(outboxRepository).should(never()).deleteAllByIdInBatch(any());
+        assertThat(meterRegistry.get("geo.outbox.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void drain_shouldRelayHealthyEventsAndParkPoisonEventAfterMaxAttempts() {
+        GeoOutboxEvent poison = event(2L, "bar", GeoOutboxEvent.Type.UPSERT);
+        ReflectionTestUtils.setField(poison, "attempts", 2);
+        given(outboxRepository.lockOldest(500))
+                .willReturn(List.of(event(1L, "cafe", GeoOutboxEvent.Type.UPSERT), poison));
+        given(businessRepository.lockForShare(List.of("cafe", "bar"))).willReturn(List.of(entity(CAFE), entity(BAR)));
+        given(businessRepository.lockForShare(List.of("cafe"))).willReturn(List.of(entity(CAFE)));
+        given(businessRepository.lockForShare(List.of("bar"))).willReturn(List.of(entity(BAR)));
+        willAnswer(invocation -> {
+            List<GeoEntry> entries = invocation.getArgument(0);
+            if (entries.contains(BAR.toGeoEntry())) {
+                throw new IllegalArgumentException("invalid member");
+            }
+            return null;
+        }).given(geoIndex).addAll(any());
+
+        newRelay().drain();
+
+        // 배치가 실패하면 하나씩 다시 돌려 정상 이벤트는 반영하고, 혼자서도 실패한 이벤트만 시도 횟수를 올린다
+        then(outboxRepository).should().deleteAllByIdInBatch(List.of(1L));
+        then(outboxRepository).should().incrementAttempts(List.of(2L));
+        // 최대 시도 횟수에 닿으면 보류해 더는 큐 앞을 막지 않게 한다
+        then(outboxRepository).should().park(List.of(2L));
+        assertThat(meterRegistry.get("geo.outbox.relayed").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("geo.outbox.parked").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void drain_shouldNotParkEventsWhileRedisIsUnavailable() {
+        GeoOutboxEvent event = event(1L, "cafe", GeoOutboxEvent.Type.UPSERT);
+        ReflectionTestUtils.setField(event, "attempts", 10);
+        given(outboxRepository.lockOldest(500))
+                .willReturn(List.of(event, event(2L, "bar", GeoOutboxEvent.Type.UPSERT)));
+        given(businessRepository.lockForShare(List.of("cafe", "bar"))).willReturn(List.of(entity(CAFE), entity(BAR)));
+        doThrow(new RedisConnectionFailureException("Connection refused")).when(geoIndex).addAll(any());
+
+        newRelay().drain();
+
+        // 연결 장애는 이벤트 탓이 아니므로 하나씩 다시 시도하거나 보류하지 않고 백오프만 한다
+        then(businessRepository).should(times(1)).lockForShare(any());
+        then(outboxRepository).should().incrementAttempts(List.of(1L, 2L));
+        then(outboxRepository).should(never()).park(any());
+    }
+
+    @Test
+    void publish_shouldRelayOnlyAfterCommit() {
+        given(outboxRepository.lockOldest(500)).willReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+        GeoOutboxRelay relay = newRelay();
+
+        relay.publish("cafe", GeoOutboxEvent.Type.UPSERT);
+
+        then(outboxRepository).should().save(any(GeoOutboxEvent.class));
+        then(outboxRepository).should(never()).lockOldest(anyInt());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        then(outboxRepository).should().lockOldest(500);
+    }
+
+    private GeoOutboxRelay newRelay() {
+        return new GeoOutboxRelay(outboxRepository, businessRepository, geoIndex, projectionRepository,
+                projectionCache, responseCache, transactionManager, meterRegistry, 500, true,
+                Duration.ofMinutes(1), Duration.ofMinutes(5), 3);
+    }
+
+    private static Business entity(BusinessSearchProjection projection) {
+        Business business = new Business(projection.name(), projection.address(), projection.latitude(),
+                projection.longitude(), projection.category(), null, null);
+        ReflectionTestUtils.setField(business, "id", projection.id());
+        return business;
+    }
+
+    private static GeoOutboxEvent event(Long id, String businessId, GeoOutboxEvent.Type type) {
+        GeoOutboxEvent event = new GeoOutboxEvent(businessId, type);
+        ReflectionTestUtils.setField(event, "id", id);
+        ReflectionTestUtils.setField(event, "createdAt", LocalDateTime.now());
+        return event;
+    }
+}
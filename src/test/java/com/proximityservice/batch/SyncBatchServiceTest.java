@@ -3,48 +3,74 @@ package com.proximityservice.batch;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyDouble;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 
-import com.proximityservice.domain.Business;
+import com.proximityservice.domain.GeoOutboxEvent;
+import com.proximityservice.dto.BusinessSearchProjection;
 import com.proximityservice.dto.SyncBatchResult;
-import com.proximityservice.repository.BusinessGeoRepository;
+import com.proximityservice.geo.GeoIndex;
+import com.proximityservice.geo.GeoMemberBatch;
+import com.proximityservice.geo.ShadowRebuild;
+import com.proximityservice.repository.BusinessProjectionRepository;
 import com.proximityservice.repository.BusinessRepository;
+import com.proximityservice.repository.GeoOutboxRepository;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.geo.Point;
 
 @ExtendWith(MockitoExtension.class)
 class SyncBatchServiceTest {
 
+    private static final BusinessSearchProjection B1 =
+            new BusinessSearchProjection("1a", "식당A", "주소A", 37.5, 127.0, "cafe");
+    private static final BusinessSearchProjection B2 =
+            new BusinessSearchProjection("9f", "식당B", "주소B", 38.0, 128.0, "bar");
+
     @Mock
     private BusinessRepository businessRepository;
 
     @Mock
-    private BusinessGeoRepository geoRepository;
+    private GeoIndex geoIndex;
+
+    @Mock
+    private ShadowRebuild shadow;
+
+    @Mock
+    private BusinessProjectionRepository projectionRepository;
+
+    @Mock
+    private GeoOutboxRepository outboxRepository;
+
+    @Mock
+    private GeoOutboxRelay outboxRelay;
 
-    @InjectMocks
     private SyncBatchService syncBatchService;
 
+    @BeforeEach
+    void setUp() {
+        syncBatchService = newService(1, 1, 500);
+    }
+
     @Test
     void fullSync_shouldRebuildRedisFromMysql() {
-        Business b1 = new Business("식당A", "주소A", 37.5, 127.0, "cafe", null, null);
-        Business b2 = new Business("식당B", "주소B", 38.0, 128.0, "bar", null, null);
-        PageImpl<Business> page = new PageImpl<>(List.of(b1, b2), PageRequest.of(0, 500), 2);
-
-        given(businessRepository.findAll(any(Pageable.class))).willReturn(page);
+        givenBusinesses(B1, B2);
 
         SyncBatchResult result = syncBatchService.fullSync();
 
@@ -53,15 +79,125 @@ class SyncBatchServiceTest {
         assertThat(result.totalProcessed()).isEqualTo(2);
         assertThat(result.added()).isEqualTo(2);
         assertThat(result.errors()).isZero();
-        then(geoRepository).should().deleteAll();
-        then(geoRepository).should().add(b1.getId(), 127.0, 37.5);
-        then(geoRepository).should().add(b2.getId(), 128.0, 38.0);
+        then(geoIndex).should().clear();
+        then(geoIndex).should().addAll(List.of(B1.toGeoEntry(), B2.toGeoEntry()));
+        then(projectionRepository).should().saveAll(List.of(B1, B2));
+    }
+
+    @Test
+    void fullSync_shouldPageByKeyWithinEachRange() {
+        syncBatchService = newService(1, 1, 2);
+        BusinessSearchProjection b3 = new BusinessSearchProjection("c3", "식당C", "주소C", 37.6, 127.1, "cafe");
+        given(businessRepository.findMaxId()).willReturn(Optional.of("c3"));
+        given(businessRepository.findSearchProjectionsAfter(eq(""), eq("c3"), any(Limit.class)))
+                .willReturn(List.of(B1, B2));
+        given(businessRepository.findSearchProjectionsAfter(eq("9f"), eq("c3"), any(Limit.class)))
+                .willReturn(List.of(b3));
+
+        SyncBatchResult result = syncBatchService.fullSync();
+
+        // 다음 페이지는 OFFSET 없이 직전 페이지의 마지막 id 다음부터 읽는다
+        assertThat(result.totalProcessed()).isEqualTo(3);
+        then(geoIndex).should().addAll(List.of(B1.toGeoEntry(), B2.toGeoEntry()));
+        then(geoIndex).should().addAll(List.of(b3.toGeoEntry()));
+    }
+
+    @Test
+    void fullSync_shouldSplitIdSpaceAcrossWorkers() {
+        syncBatchService = newService(4, 4, 500);
+        given(businessRepository.findMaxId()).willReturn(Optional.of("f0"));
+        given(businessRepository.findSearchProjectionsAfter(eq(""), eq("40"), any(Limit.class)))
+                .willReturn(List.of(B1));
+        given(businessRepository.findSearchProjectionsAfter(eq("40"), eq("80"), any(Limit.class)))
+                .willReturn(List.of());
+        given(businessRepository.findSearchProjectionsAfter(eq("80"), eq("c0"), any(Limit.class)))
+                .willReturn(List.of(B2));
+        given(businessRepository.findSearchProjectionsAfter(eq("c0"), eq("f0"), any(Limit.class)))
+                .willReturn(List.of());
+
+        SyncBatchResult result = syncBatchService.fullSync();
+
+        // 범위들이 빈틈없이 이어져 마지막 범위는 최대 id까지 포함한다
+        assertThat(result.status()).isEqualTo("SUCCESS");
+        assertThat(result.totalProcessed()).isEqualTo(2);
+        assertThat(result.added()).isEqualTo(2);
+        then(geoIndex).should().addAll(List.of(B1.toGeoEntry()));
+        then(geoIndex).should().addAll(List.of(B2.toGeoEntry()));
+    }
+
+    @Test
+    void fullSync_shouldSwapVerifiedShadowIntoPlace() {
+        List<String> ids = List.of(B1.id(), B2.id());
+
+        given(geoIndex.beginShadowRebuild()).willReturn(Optional.of(shadow));
+        givenBusinesses(B1, B2);
+        given(businessRepository.count()).willReturn(2L);
+        given(shadow.size()).willReturn(2L);
+        given(shadow.positions(ids))
+                .willReturn(Map.of(B1.id(), new Point(127.0, 37.5), B2.id(), new Point(128.0, 38.0)));
+        given(businessRepository.findSearchProjectionsByIdIn(ids)).willReturn(List.of(B1, B2));
+
+        SyncBatchResult result = syncBatchService.fullSync();
+
+        // 검증을 통과한 섀도 키만 라이브 키로 교체하고, 재구축 동안 라이브 키는 비우지 않는다
+        assertThat(result.status()).isEqualTo("SUCCESS");
+        assertThat(result.added()).isEqualTo(2);
+        then(shadow).should().addAll(List.of(B1.toGeoEntry(), B2.toGeoEntry()));
+        then(shadow).should().swap();
+        then(geoIndex).should(never()).clear();
+        then(geoIndex).should(never()).addAll(any());
+    }
+
+    @Test
+    void fullSync_shouldKeepLiveIndexWhenShadowIsIncomplete() {
+        given(geoIndex.beginShadowRebuild()).willReturn(Optional.of(shadow));
+        givenBusinesses(B1, B2);
+        given(businessRepository.count()).willReturn(2L);
+        given(shadow.size()).willReturn(1L);
+
+        SyncBatchResult result = syncBatchService.fullSync();
+
+        assertThat(result.status()).isEqualTo("FAILED");
+        then(shadow).should().discard();
+        then(shadow).should(never()).swap();
+        then(geoIndex).should(never()).clear();
+    }
+
+    @Test
+    void fullSync_shouldDiscardShadowWhenAnyPageFailed() {
+        given(geoIndex.beginShadowRebuild()).willReturn(Optional.of(shadow));
+        givenBusinesses(B1, B2);
+        doThrow(new RuntimeException("Redis down")).when(projectionRepository).saveAll(any());
+
+        SyncBatchResult result = syncBatchService.fullSync();
+
+        // 실패한 페이지가 하나라도 있으면 건수 검증 허용치 안이어도 섀도 키로 교체하지 않는다
+        assertThat(result.status()).isEqualTo("FAILED");
+        then(shadow).should().discard();
+        then(shadow).should(never()).swap();
+        then(shadow).should(never()).size();
+    }
+
+    @Test
+    void fullSync_shouldKeepLiveIndexWhenSampledPositionsDisagree() {
+        given(geoIndex.beginShadowRebuild()).willReturn(Optional.of(shadow));
+        givenBusinesses(B1);
+        given(businessRepository.count()).willReturn(1L);
+        given(shadow.size()).willReturn(1L);
+        given(shadow.positions(List.of(B1.id())))
+                .willReturn(Map.of(B1.id(), new Point(126.9, 37.4)));
+        given(businessRepository.findSearchProjectionsByIdIn(List.of(B1.id()))).willReturn(List.of(B1));
+
+        SyncBatchResult result = syncBatchService.fullSync();
+
+        assertThat(result.status()).isEqualTo("FAILED");
+        then(shadow).should().discard();
+        then(shadow).should(never()).swap();
     }
 
     @Test
     void fullSync_shouldReturnZeroWhenDbEmpty() {
-        PageImpl<Business> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 500), 0);
-        given(businessRepository.findAll(any(Pageable.class))).willReturn(emptyPage);
+        given(businessRepository.findMaxId()).willReturn(Optional.empty());
 
         SyncBatchResult result = syncBatchService.fullSync();
 
@@ -73,11 +209,8 @@ class SyncBatchServiceTest {
 
     @Test
     void fullSync_shouldReportPartialFailureOnRedisError() {
-        Business b1 = new Business("식당A", "주소A", 37.5, 127.0, "cafe", null, null);
-        PageImpl<Business> page = new PageImpl<>(List.of(b1), PageRequest.of(0, 500), 1);
-        given(businessRepository.findAll(any(Pageable.class))).willReturn(page);
-        doThrow(new RuntimeException("Redis error"))
-                .when(geoRepository).add(anyString(), anyDouble(), anyDouble());
+        givenBusinesses(B1);
+        doThrow(new RuntimeException("Redis error")).when(geoIndex).addAll(any());
 
         SyncBatchResult result = syncBatchService.fullSync();
 
@@ -86,37 +219,176 @@ class SyncBatchServiceTest {
     }
 
     @Test
-    void consistencyCheck_shouldAddMissingAndRemoveOrphaned() {
-        Business b1 = new Business("식당A", "주소A", 37.5, 127.0, "cafe", null, null);
-        Business b2 = new Business("식당B", "주소B", 38.0, 128.0, "bar", null, null);
-        PageImpl<Business> page = new PageImpl<>(List.of(b1, b2), PageRequest.of(0, 500), 2);
+    void fullSync_shouldFailWhenRangeScanFails() {
+        syncBatchService = newService(2, 2, 500);
+        given(businessRepository.findMaxId()).willReturn(Optional.of("f0"));
+        given(businessRepository.findSearchProjectionsAfter(eq(""), eq("80"), any(Limit.class)))
+                .willThrow(new IllegalStateException("MySQL down"));
 
-        given(businessRepository.findAll(any(Pageable.class))).willReturn(page);
-        given(geoRepository.getAllMembers()).willReturn(Set.of(b1.getId(), "orphan-id"));
-        given(businessRepository.findById(b2.getId())).willReturn(Optional.of(b2));
+        SyncBatchResult result = syncBatchService.fullSync();
+
+        assertThat(result.status()).isEqualTo("FAILED");
+    }
+
+    @Test
+    void consistencyCheck_shouldAddMissingAndRemoveOrphaned() {
+        givenBusinesses(B1, B2);
+        given(geoIndex.positions(List.of(B1.id(), B2.id()))).willReturn(Map.of(B1.id(), positionOf(B1)));
+        given(geoIndex.indexed(List.of(B1.id()), "cafe")).willReturn(Set.of(B1.id()));
+        givenIndexMembers(
+                new GeoMemberBatch(null, null, List.of(B1.id(), "orphan-id")),
+                new GeoMemberBatch(null, "cafe", List.of(B1.id())));
+        given(businessRepository.findSearchProjectionsByIdIn(List.of(B1.id(), "orphan-id"))).willReturn(List.of(B1));
+        given(businessRepository.findSearchProjectionsByIdIn(List.of(B1.id()))).willReturn(List.of(B1));
 
         SyncBatchResult result = syncBatchService.consistencyCheck();
 
+        // 고칠 항목은 직접 쓰지 않고 REINDEX 이벤트로 넘겨 릴레이가 잠근 현재 행으로 반영하게 한다
         assertThat(result.type()).isEqualTo("CONSISTENCY_CHECK");
         assertThat(result.status()).isEqualTo("SUCCESS");
+        assertThat(result.totalProcessed()).isEqualTo(3);
         assertThat(result.added()).isEqualTo(1);
         assertThat(result.removed()).isEqualTo(1);
-        then(geoRepository).should().add(b2.getId(), 128.0, 38.0);
-        then(geoRepository).should().remove("orphan-id");
+        InOrder order = inOrder(outboxRelay);
+        order.verify(outboxRelay).publishAll(List.of(B2.id()), GeoOutboxEvent.Type.REINDEX);
+        order.verify(outboxRelay).publishAll(List.of("orphan-id"), GeoOutboxEvent.Type.REINDEX);
+        order.verify(outboxRelay).drain();
+        then(geoIndex).should(never()).addAll(any());
+        then(geoIndex).should(never()).removeAll(any());
     }
 
     @Test
-    void consistencyCheck_shouldReportNoChangesWhenConsistent() {
-        Business b1 = new Business("식당A", "주소A", 37.5, 127.0, "cafe", null, null);
-        PageImpl<Business> page = new PageImpl<>(List.of(b1), PageRequest.of(0, 500), 1);
+    void consistencyCheck_shouldMoveEntryToCurrentCategorySet() {
+        givenBusinesses(B1);
+        given(geoIndex.positions(List.of(B1.id()))).willReturn(Map.of(B1.id(), positionOf(B1)));
+        given(geoIndex.indexed(List.of(B1.id()), "cafe")).willReturn(Set.of());
+        givenIndexMembers(
+                new GeoMemberBatch(null, null, List.of(B1.id())),
+                new GeoMemberBatch(null, "bar", List.of(B1.id(), "stray-id")));
+        given(businessRepository.findSearchProjectionsByIdIn(List.of(B1.id()))).willReturn(List.of(B1));
+        given(businessRepository.findSearchProjectionsByIdIn(List.of(B1.id(), "stray-id"))).willReturn(List.of(B1));
+
+        SyncBatchResult result = syncBatchService.consistencyCheck();
+
+        // 자기 카테고리 키에 없거나 다른 카테고리 키에 남은 항목은 REINDEX로 지우고 다시 넣는다
+        assertThat(result.status()).isEqualTo("SUCCESS");
+        assertThat(result.added()).isZero();
+        assertThat(result.removed()).isZero();
+        then(outboxRelay).should().publishAll(List.of(B1.id()), GeoOutboxEvent.Type.REINDEX);
+        then(outboxRelay).should().publishAll(List.of("stray-id", B1.id()), GeoOutboxEvent.Type.REINDEX);
+    }
 
-        given(businessRepository.findAll(any(Pageable.class))).willReturn(page);
-        given(geoRepository.getAllMembers()).willReturn(Set.of(b1.getId()));
+    @Test
+    void consistencyCheck_shouldMoveEntryToExpectedShard() {
+        givenBusinesses(B1);
+        given(geoIndex.positions(List.of(B1.id()))).willReturn(Map.of(B1.id(), positionOf(B1)));
+        given(geoIndex.indexed(List.of(B1.id()), "cafe")).willReturn(Set.of(B1.id()));
+        given(geoIndex.shardOf(127.0, 37.5)).willReturn("wydm1");
+        givenIndexMembers(new GeoMemberBatch("wydm4", null, List.of(B1.id())));
+        given(businessRepository.findSearchProjectionsByIdIn(List.of(B1.id()))).willReturn(List.of(B1));
+
+        SyncBatchResult result = syncBatchService.consistencyCheck();
+
+        assertThat(result.status()).isEqualTo("SUCCESS");
+        then(geoIndex).should().removeAll(List.of(B1.id()), "wydm4");
+        then(outboxRelay).should().publishAll(List.of(B1.id()), GeoOutboxEvent.Type.REINDEX);
+    }
+
+    @Test
+    void consistencyCheck_shouldReportNoChangesWhenConsistent() {
+        givenBusinesses(B1);
+        given(geoIndex.positions(List.of(B1.id()))).willReturn(Map.of(B1.id(), positionOf(B1)));
+        given(geoIndex.indexed(List.of(B1.id()), "cafe")).willReturn(Set.of(B1.id()));
+        givenIndexMembers(
+                new GeoMemberBatch(null, null, List.of(B1.id())),
+                new GeoMemberBatch(null, "cafe", List.of(B1.id())));
+        given(businessRepository.findSearchProjectionsByIdIn(List.of(B1.id()))).willReturn(List.of(B1));
+        given(projectionRepository.findAll(List.of(B1.id()))).willReturn(Map.of(B1.id(), B1));
+        givenProjectionIds(B1.id());
+        given(businessRepository.findExistingIds(List.of(B1.id()))).willReturn(List.of(B1.id()));
 
         SyncBatchResult result = syncBatchService.consistencyCheck();
 
         assertThat(result.status()).isEqualTo("SUCCESS");
         assertThat(result.added()).isZero();
         assertThat(result.removed()).isZero();
+        assertThat(result.drifted()).isZero();
+        assertThat(result.projectionsRepaired()).isZero();
+        then(outboxRelay).should(never()).publishAll(any(), any());
+        then(geoIndex).should(never()).addAll(any());
+        then(geoIndex).should(never()).removeAll(any());
+    }
+
+    @Test
+    void consistencyCheck_shouldRepairDriftedCoordinates() {
+        givenBusinesses(B1, B2);
+        // B1은 지오해시 정밀도 안의 오차, B2는 옛 좌표(약 110m 떨어짐)가 남아 있다
+        given(geoIndex.positions(List.of(B1.id(), B2.id()))).willReturn(Map.of(
+                B1.id(), new Point(127.000004, 37.500003),
+                B2.id(), new Point(128.0, 37.999)));
+        given(geoIndex.indexed(List.of(B1.id()), "cafe")).willReturn(Set.of(B1.id()));
+        given(geoIndex.indexed(List.of(B2.id()), "bar")).willReturn(Set.of(B2.id()));
+
+        SyncBatchResult result = syncBatchService.consistencyCheck();
+
+        assertThat(result.status()).isEqualTo("SUCCESS");
+        assertThat(result.added()).isZero();
+        assertThat(result.drifted()).isEqualTo(1);
+        then(outboxRelay).should().publishAll(List.of(B2.id()), GeoOutboxEvent.Type.REINDEX);
+        then(geoIndex).should(never()).addAll(any());
+    }
+
+    @Test
+    void consistencyCheck_shouldRepairStaleAndOrphanedProjections() {
+        BusinessSearchProjection staleB1 = new BusinessSearchProjection(
+                B1.id(), "옛 이름", "주소A", 37.5, 127.0, "cafe");
+
+        givenBusinesses(B1, B2);
+        given(geoIndex.positions(List.of(B1.id(), B2.id())))
+                .willReturn(Map.of(B1.id(), positionOf(B1), B2.id(), positionOf(B2)));
+        given(geoIndex.indexed(List.of(B1.id()), "cafe")).willReturn(Set.of(B1.id()));
+        given(geoIndex.indexed(List.of(B2.id()), "bar")).willReturn(Set.of(B2.id()));
+        given(projectionRepository.findAll(List.of(B1.id(), B2.id()))).willReturn(Map.of(B1.id(), staleB1));
+        givenProjectionIds(B1.id(), "orphan-id");
+        given(businessRepository.findExistingIds(List.of(B1.id(), "orphan-id"))).willReturn(List.of(B1.id()));
+
+        SyncBatchResult result = syncBatchService.consistencyCheck();
+
+        assertThat(result.status()).isEqualTo("SUCCESS");
+        assertThat(result.projectionsRepaired()).isEqualTo(3);
+        then(projectionRepository).should().saveAll(List.of(B1, B2));
+        then(projectionRepository).should().deleteAll(List.of("orphan-id"));
+    }
+
+    private static Point positionOf(BusinessSearchProjection business) {
+        return new Point(business.longitude(), business.latitude());
+    }
+
+    private void givenIndexMembers(GeoMemberBatch... batches) {
+        willAnswer(invocation -> {
+            Consumer<GeoMemberBatch> consumer = invocation.getArgument(1);
+            List.of(batches).forEach(consumer);
+            return null;
+        }).given(geoIndex).scanMembers(anyInt(), any());
+    }
+
+    private void givenProjectionIds(String... ids) {
+        willAnswer(invocation -> {
+            Consumer<List<String>> consumer = invocation.getArgument(1);
+            consumer.accept(List.of(ids));
+            return null;
+        }).given(projectionRepository).scanIds(anyInt(), any());
+    }
+
+    private void givenBusinesses(BusinessSearchProjection... businesses) {
+        String maxId = businesses[businesses.length - 1].id();
+        given(businessRepository.findMaxId()).willReturn(Optional.of(maxId));
+        given(businessRepository.findSearchProjectionsAfter(eq(""), eq(maxId), any(Limit.class)))
+                .willReturn(List.of(businesses));
+    }
+
+    private SyncBatchService newService(int workers, int partitions, int pageSize) {
+        return new SyncBatchService(businessRepository, geoIndex, projectionRepository, outboxRepository, outboxRelay,
+                workers, partitions, pageSize);
     }
 }
@@ -0,0 +1,65 @@
+package com.proximityservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.proximityservice.exception.BackendBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BulkheadAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint outer;
+
+    @Mock
+    private ProceedingJoinPoint inner;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void execute_shouldNotTakeSecondPermitForNestedCall() throws Throwable {
+        BulkheadAspect.Bulkhead bulkhead = new BulkheadAspect.Bulkhead("mysql", 1, Duration.ZERO, meterRegistry);
+        given(inner.proceed()).willReturn("inner");
+        given(outer.proceed()).willAnswer(invocation -> bulkhead.execute(inner));
+
+        assertThat(bulkhead.execute(outer)).isEqualTo("inner");
+        assertThat(meterRegistry.get("bulkhead.available").tag("backend", "mysql").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void execute_shouldRejectWhenAllPermitsAreHeld() throws Throwable {
+        BulkheadAspect.Bulkhead bulkhead =
+                new BulkheadAspect.Bulkhead("mysql", 1, Duration.ofMillis(10), meterRegistry);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(outer.proceed()).willAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return null;
+        });
+
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                bulkhead.execute(outer);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        entered.await();
+
+        assertThatThrownBy(() -> bulkhead.execute(inner)).isInstanceOf(BackendBusyException.class);
+        assertThat(meterRegistry.get("bulkhead.rejected").tag("backend", "mysql").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        holder.join();
+    }
+}
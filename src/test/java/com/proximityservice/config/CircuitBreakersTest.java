@@ -0,0 +1,123 @@
+package com.proximityservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.proximityservice.config.CircuitBreakers.CircuitBreaker;
+import com.proximityservice.config.CircuitBreakers.CircuitBreaker.State;
+import com.proximityservice.exception.CircuitOpenException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+class CircuitBreakersTest {
+
+    private static final CircuitBreakers.Settings SETTINGS = new CircuitBreakers.Settings(
+            4, 4, 50, Duration.ofMillis(100), Duration.ofSeconds(5), 2);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker("redis", SETTINGS, meterRegistry, nanos::get);
+
+    @Test
+    void execute_shouldOpenWhenFailureRateReachesThreshold() {
+        succeed();
+        succeed();
+        fail();
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+
+        failWithTimeout();
+
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+        assertThatThrownBy(() -> breaker.execute(() -> "unreachable")).isInstanceOf(CircuitOpenException.class);
+        assertThat(meterRegistry.get("circuit.breaker.not.permitted").tag("backend", "redis").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("circuit.breaker.state").tag("backend", "redis").gauge().value())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void execute_shouldCountSlowCallsAsFailures() {
+        for (int i = 0; i < 4; i++) {
+            breaker.execute(() -> nanos.addAndGet(Duration.ofMillis(150).toNanos()));
+        }
+
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void execute_shouldIgnoreNonBackendErrors() {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> breaker.execute(() -> {
+                throw new IllegalArgumentException("bad input");
+            })).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void execute_shouldCloseAfterSuccessfulTrialCalls() {
+        openBreaker();
+        nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        succeed();
+        assertThat(breaker.state()).isEqualTo(State.HALF_OPEN);
+        succeed();
+
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+        assertThat(meterRegistry.get("circuit.breaker.transitions")
+                .tags("backend", "redis", "from", "HALF_OPEN", "to", "CLOSED").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void execute_shouldReopenWhenTrialCallFails() {
+        openBreaker();
+        nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        fail();
+
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+        assertThat(meterRegistry.get("circuit.breaker.transitions")
+                .tags("backend", "redis", "from", "CLOSED", "to", "OPEN").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("circuit.breaker.transitions")
+                .tags("backend", "redis", "from", "HALF_OPEN", "to", "OPEN").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void health_shouldReportEachBreakerState() {
+        CircuitBreakers breakers = new CircuitBreakers(meterRegistry, SETTINGS);
+
+        assertThat(breakers.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(breakers.health().getDetails())
+                .containsEntry("mysql", State.CLOSED)
+                .containsEntry("redis", State.CLOSED);
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+    }
+
+    private void succeed() {
+        breaker.execute(() -> "ok");
+    }
+
+    private void fail() {
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            throw new RedisConnectionFailureException("Connection refused");
+        })).isInstanceOf(RedisConnectionFailureException.class);
+    }
+
+    private void failWithTimeout() {
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            throw new QueryTimeoutException("Command timed out");
+        })).isInstanceOf(QueryTimeoutException.class);
+    }
+}
@@ -0,0 +1,121 @@
+package com.proximityservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.proximityservice.repository.BusinessGeoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+class RedisReadRouterTest {
+
+    private static final Network network = Network.newNetwork();
+
+    @Container
+    static GenericContainer<?> primary = new GenericContainer<>("redis:7")
+            .withNetwork(network)
+            .withNetworkAliases("redis-primary")
+            .withExposedPorts(6379);
+
+    @Container
+    static GenericContainer<?> replica = new GenericContainer<>("redis:7")
+            .withNetwork(network)
+            .withExposedPorts(6379)
+            .withCommand("redis-server", "--replicaof", "redis-primary", "6379")
+            .dependsOn(primary);
+
+    private LettuceConnectionFactory primaryConnectionFactory;
+    private RedisReadRouter readRouter;
+    private BusinessGeoRepository geoRepository;
+
+    @BeforeEach
+    void setUp() {
+        primaryConnectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(primary.getHost(), primary.getMappedPort(6379)));
+        primaryConnectionFactory.afterPropertiesSet();
+        primaryConnectionFactory.start();
+        StringRedisTemplate primaryTemplate = new StringRedisTemplate(primaryConnectionFactory);
+        primaryTemplate.afterPropertiesSet();
+
+        readRouter = new RedisReadRouter(primaryTemplate, new SimpleMeterRegistry(),
+                replica.getHost(), replica.getMappedPort(6379), Duration.ofMillis(500));
+        geoRepository = new BusinessGeoRepository(primaryTemplate, readRouter);
+        geoRepository.deleteAll();
+        geoRepository.add("biz-1", 127.0396, 37.5012);
+    }
+
+    @AfterEach
+    void tearDown() {
+        readRouter.destroy();
+        primaryConnectionFactory.destroy();
+    }
+
+    @Test
+    void searchShouldBeServedByReplicaWhileItIsFresh() throws Exception {
+        awaitUntil(() -> {
+            readRouter.checkReplica();
+            return readRouter.replicaUsable();
+        });
+        // 레플리카에만 존재하는 멤버로 검색이 레플리카에서 처리되는지 확인한다
+        redisCli(replica, "config", "set", "replica-read-only", "no");
+        redisCli(replica, "geoadd", "{geo:businesses}", "127.0397", "37.5013", "replica-only");
+
+        assertThat(searchIds()).contains("biz-1", "replica-only");
+    }
+
+    @Test
+    void searchShouldFallBackToPrimaryWhenReplicaIsStale() throws Exception {
+        awaitUntil(() -> {
+            readRouter.checkReplica();
+            return readRouter.replicaUsable();
+        });
+        redisCli(replica, "config", "set", "replica-read-only", "no");
+        redisCli(replica, "geoadd", "{geo:businesses}", "127.0397", "37.5013", "replica-only");
+        redisCli(replica, "replicaof", "no", "one");
+
+        // 하트비트가 더 이상 복제되지 않아 허용 지연(500ms)을 넘으면 프라이머리로 전환된다
+        awaitUntil(() -> {
+            readRouter.checkReplica();
+            return !readRouter.replicaUsable();
+        });
+
+        assertThat(searchIds()).containsExactly("biz-1");
+        redisCli(replica, "replicaof", "redis-primary", "6379");
+    }
+
+    private List<String> searchIds() {
+        return geoRepository.searchNearby(127.0396, 37.5012, 1000, 20).getContent().stream()
+                .map(GeoResult::getContent)
+                .map(GeoLocation::getName)
+                .toList();
+    }
+
+    private static void redisCli(GenericContainer<?> container, String... args) throws Exception {
+        String[] command = new String[args.length + 1];
+        command[0] = "redis-cli";
+        System.arraycopy(args, 0, command, 1, args.length);
+        container.execInContainer(command);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(100);
+        }
+    }
+}
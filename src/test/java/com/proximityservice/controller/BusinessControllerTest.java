@@ -30,7 +30,7 @@ import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
-@SpringBootTest
+@SpringBootTest(properties = "proximity.outbox.relay.apply-after-commit=true")
 @AutoConfigureMockMvc
 @Testcontainers
 class BusinessControllerTest {
@@ -65,7 +65,7 @@ class BusinessControllerTest {
     @BeforeEach
     void setUp() {
         businessRepository.deleteAll();
-        redisTemplate.delete("geo:businesses");
+        redisTemplate.delete("{geo:businesses}");
 
         savedBusiness = new Business("맛있는 식당", "서울시 강남구 테헤란로 123",
                 37.5012, 127.0396, "korean_food", "02-1234-5678", "11:00-22:00");
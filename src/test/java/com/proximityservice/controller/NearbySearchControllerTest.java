@@ -1,12 +1,22 @@
 package com.proximityservice.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.jayway.jsonpath.JsonPath;
 import com.proximityservice.domain.Business;
 import com.proximityservice.repository.BusinessGeoRepository;
 import com.proximityservice.repository.BusinessRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,7 +24,10 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -50,12 +63,12 @@ class NearbySearchControllerTest {
     @BeforeEach
     void setUp() {
         businessRepository.deleteAll();
-        redisTemplate.delete("geo:businesses");
+        geoRepository.deleteAll();
 
         Business b1 = new Business("맛있는 식당", "서울시 강남구 테헤란로 123",
                 37.5012, 127.0396, "korean_food", "02-1234-5678", "11:00-22:00");
         businessRepository.save(b1);
-        geoRepository.add(b1.getId(), b1.getLongitude(), b1.getLatitude());
+        geoRepository.add(b1.getId(), b1.getLongitude(), b1.getLatitude(), b1.getCategory());
     }
 
     @Test
@@ -121,4 +134,244 @@ class NearbySearchControllerTest {
                 .andExpect(jsonPath("$.error").value("INVALID_PARAMETER"))
                 .andExpect(jsonPath("$.details.field").value("radius"));
     }
+
+    @Test
+    void shouldFilterByCategory() throws Exception {
+        mockMvc.perform(get("/v1/search/nearby")
+                        .param("latitude", "37.5012")
+                        .param("longitude", "127.0396")
+                        .param("category", "korean_food"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1));
+
+        mockMvc.perform(get("/v1/search/nearby")
+                        .param("latitude", "37.5012")
+                        .param("longitude", "127.0396")
+                        .param("category", "cafe"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(0));
+    }
+
+    @Test
+    void shouldMergeMultipleCategoriesByDistance() throws Exception {
+        Business cafe = new Business("가까운 카페", "서울시 강남구 테헤란로 120",
+                37.5013, 127.0396, "cafe", null, null);
+        businessRepository.save(cafe);
+        geoRepository.add(cafe.getId(), cafe.getLongitude(), cafe.getLatitude(), cafe.getCategory());
+
+        mockMvc.perform(get("/v1/search/nearby")
+                        .param("latitude", "37.5013")
+                        .param("longitude", "127.0396")
+                        .param("category", "korean_food,cafe"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.businesses[0].category").value("cafe"))
+                .andExpect(jsonPath("$.businesses[1].category").value("korean_food"));
+    }
+
+    @Test
+    void shouldReturn400ForInvalidCategory() throws Exception {
+        mockMvc.perform(get("/v1/search/nearby")
+                        .param("latitude", "37.5")
+                        .param("longitude", "127.0")
+                        .param("category", "sushi"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_PARAMETER"))
+                .andExpect(jsonPath("$.details.field").value("category"));
+    }
+
+    @Test
+    void shouldPageThroughTiedDistancesWithCursor() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            Business tied = new Business("같은 건물 " + i, "서울시 강남구 테헤란로 200",
+                    37.5100, 127.0400, "cafe", null, null);
+            businessRepository.save(tied);
+            geoRepository.add(tied.getId(), tied.getLongitude(), tied.getLatitude(), tied.getCategory());
+        }
+
+        Set<String> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = get("/v1/search/nearby")
+                    .param("latitude", "37.5100")
+                    .param("longitude", "127.0400")
+                    .param("radius", "100")
+                    .param("limit", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            List<String> ids = JsonPath.read(body, "$.businesses[*].id");
+            for (String id : ids) {
+                assertThat(seen.add(id)).isTrue();
+            }
+            cursor = JsonPath.read(body, "$.next_cursor");
+            pages++;
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(4);
+        assertThat(pages).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturn400ForMalformedCursor() throws Exception {
+        mockMvc.perform(get("/v1/search/nearby")
+                        .param("latitude", "37.5")
+                        .param("longitude", "127.0")
+                        .param("cursor", "%%%"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_PARAMETER"))
+                .andExpect(jsonPath("$.details.field").value("cursor"));
+    }
+
+    @Test
+    void shouldStreamResultsAsNdjson() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Business nearby = new Business("근처 식당 " + i, "서울시 강남구 테헤란로 " + (124 + i),
+                    37.5012 + 0.0001 * (i + 1), 127.0396, "korean_food", null, null);
+            businessRepository.save(nearby);
+            geoRepository.add(nearby.getId(), nearby.getLongitude(), nearby.getLatitude(), nearby.getCategory());
+        }
+
+        MvcResult started = mockMvc.perform(get("/v1/search/nearby")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .param("latitude", "37.5012")
+                        .param("longitude", "127.0396")
+                        .param("radius", "1000")
+                        .param("limit", "3"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(JsonPath.<String>read(lines.get(0), "$.name")).isEqualTo("맛있는 식당");
+        assertThat(JsonPath.<Double>read(lines.get(2), "$.distance_m"))
+                .isGreaterThan(JsonPath.<Double>read(lines.get(1), "$.distance_m"));
+    }
+
+    @Test
+    void shouldAllowLargerLimitOnlyForStreaming() throws Exception {
+        mockMvc.perform(get("/v1/search/nearby")
+                        .param("latitude", "37.5012")
+                        .param("longitude", "127.0396")
+                        .param("limit", "500"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/v1/search/nearby")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .param("latitude", "37.5012")
+                        .param("longitude", "127.0396")
+                        .param("limit", "500"))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void reactiveSearchShouldMatchBlockingResponse() throws Exception {
+        String blocking = mockMvc.perform(get("/v1/search/nearby")
+                        .param("latitude", "37.5012")
+                        .param("longitude", "127.0396")
+                        .param("radius", "1000"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        MvcResult started = mockMvc.perform(get("/v1/search/nearby/reactive")
+                        .param("latitude", "37.5012")
+                        .param("longitude", "127.0396")
+                        .param("radius", "1000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().json(blocking, true));
+    }
+
+    @Test
+    void reactiveSearchShouldStreamNdjson() throws Exception {
+        MvcResult started = mockMvc.perform(get("/v1/search/nearby/reactive")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .param("latitude", "37.5012")
+                        .param("longitude", "127.0396")
+                        .param("radius", "1000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // Mono<ResponseEntity>가 풀린 뒤 Flux 본문 스트리밍이 다시 비동기로 시작된다
+        MvcResult streaming = mockMvc.perform(asyncDispatch(started))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(streaming))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines().toList()).hasSize(1);
+        assertThat(JsonPath.<String>read(body.lines().findFirst().orElseThrow(), "$.name")).isEqualTo("맛있는 식당");
+    }
+
+    @Test
+    void reactiveSearchShouldValidateParameters() throws Exception {
+        mockMvc.perform(get("/v1/search/nearby/reactive")
+                        .param("latitude", "91")
+                        .param("longitude", "127.0396"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.field").value("latitude"));
+    }
+
+    @Test
+    void shouldReturnKNearestWithoutRadius() throws Exception {
+        mockMvc.perform(get("/v1/search/knn")
+                        .param("latitude", "37.5100")
+                        .param("longitude", "127.0500")
+                        .param("k", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.businesses[0].name").value("맛있는 식당"));
+    }
+
+    @Test
+    void shouldReturn400ForInvalidK() throws Exception {
+        mockMvc.perform(get("/v1/search/knn")
+                        .param("latitude", "37.5")
+                        .param("longitude", "127.0")
+                        .param("k", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.field").value("k"));
+    }
+
+    @Test
+    void shouldSearchMultiplePointsInOneRequest() throws Exception {
+        mockMvc.perform(post("/v1/search/nearby/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"queries": [
+                                  {"latitude": 37.5012, "longitude": 127.0396, "radius": 1000},
+                                  {"latitude": 36.0, "longitude": 126.0, "radius": 100},
+                                  {"latitude": 37.5013, "longitude": 127.0397, "limit": 5, "category": ["korean_food"]}
+                                ]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].total").value(1))
+                .andExpect(jsonPath("$.results[1].total").value(0))
+                .andExpect(jsonPath("$.results[2].businesses[0].name").value("맛있는 식당"));
+    }
+
+    @Test
+    void shouldRejectEmptyBatch() throws Exception {
+        mockMvc.perform(post("/v1/search/nearby/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"queries\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("VALIDATION_ERROR"));
+    }
 }
@@ -52,7 +52,7 @@ class SyncBatchControllerTest {
     @BeforeEach
     void setUp() {
         businessRepository.deleteAll();
-        redisTemplate.delete("geo:businesses");
+        redisTemplate.delete("{geo:businesses}");
     }
 
     @Nested
@@ -0,0 +1,43 @@
+package com.proximityservice.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class GeohashCellsTest {
+
+    @Test
+    void encode_shouldMatchReferenceGeohash() {
+        assertThat(GeohashCells.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeohashCells.encode(37.5012, 127.0396, 4)).isEqualTo("wydm");
+    }
+
+    @Test
+    void covering_shouldIncludeCellOfEveryPointInsideRadius() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            double latitude = 33 + random.nextDouble() * 5;
+            double longitude = 125 + random.nextDouble() * 5;
+            double radius = 10 + random.nextDouble() * 5000;
+            List<String> cells = GeohashCells.covering(latitude, longitude, radius, 5);
+
+            double bearing = random.nextDouble() * 2 * Math.PI;
+            double distance = random.nextDouble() * radius * 0.999;
+            double pointLat = latitude + distance * Math.cos(bearing) / GeohashGrid.METERS_PER_DEGREE;
+            double pointLng = longitude + distance * Math.sin(bearing)
+                    / (GeohashGrid.METERS_PER_DEGREE * Math.cos(Math.toRadians(latitude)));
+            if (GeohashGrid.distanceMeters(latitude, longitude, pointLat, pointLng) > radius) {
+                continue;
+            }
+            assertThat(cells).contains(GeohashCells.encode(pointLat, pointLng, 5));
+        }
+    }
+
+    @Test
+    void covering_shouldReturnSingleCellForSmallRadiusAtCellCenter() {
+        // wydm6 셀 중심 근처에서 10m 반경은 이웃 셀에 닿지 않는다
+        assertThat(GeohashCells.covering(37.50732, 127.02393, 10, 5)).containsExactly("wydm6");
+    }
+}
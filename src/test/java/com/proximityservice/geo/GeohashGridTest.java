@@ -0,0 +1,136 @@
+package com.proximityservice.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.proximityservice.support.TestDataFactory;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class GeohashGridTest {
+
+    private final GeohashGrid grid = new GeohashGrid(13);
+
+    @Test
+    void search_shouldReturnHitsWithinRadiusSortedByDistance() {
+        grid.put("gangnam", TestDataFactory.GANGNAM_LAT, TestDataFactory.GANGNAM_LNG);
+        grid.put("north-1km", TestDataFactory.latOffsetMeters(TestDataFactory.GANGNAM_LAT, 1000), TestDataFactory.GANGNAM_LNG);
+        grid.put("hongdae", TestDataFactory.HONGDAE_LAT, TestDataFactory.HONGDAE_LNG);
+
+        List<GeoHit> hits = grid.search(TestDataFactory.GANGNAM_LAT, TestDataFactory.GANGNAM_LNG, 2000, 10);
+
+        assertThat(hits).extracting(GeoHit::id).containsExactly("gangnam", "north-1km");
+        assertThat(hits.get(0).distanceMeters()).isLessThan(1.0);
+        assertThat(hits.get(1).distanceMeters()).isBetween(990.0, 1010.0);
+    }
+
+    @Test
+    void search_shouldMatchBruteForceTopK() {
+        Random random = new Random(42);
+        double[][] points = new double[5000][];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new double[]{
+                    Math.round((37.45 + random.nextDouble() * 0.15) * 1e6) / 1e6,
+                    Math.round((126.90 + random.nextDouble() * 0.20) * 1e6) / 1e6};
+            grid.put("biz-" + i, points[i][0], points[i][1]);
+        }
+
+        double lat = TestDataFactory.GANGNAM_LAT;
+        double lng = TestDataFactory.GANGNAM_LNG;
+        List<GeoHit> hits = grid.search(lat, lng, 3000, 50);
+
+        // 그리드와 같은 거리 함수로 전수 계산해 (거리, id) 순 상위 50개 전체를 경계까지 비교한다
+        double originLat = Math.toRadians(lat);
+        double cosOriginLat = Math.cos(originLat);
+        List<GeoHit> expected = IntStream.range(0, points.length)
+                .mapToObj(i -> new GeoHit("biz-" + i, GeohashGrid.haversine(originLat, Math.toRadians(lng),
+                        cosOriginLat, (int) Math.round(points[i][0] * 1e6), (int) Math.round(points[i][1] * 1e6)),
+                        points[i][0], points[i][1]))
+                .filter(hit -> hit.distanceMeters() <= 3000)
+                .sorted(GeoHit.BY_DISTANCE)
+                .limit(50)
+                .toList();
+
+        assertThat(expected).hasSize(50);
+        assertThat(hits).extracting(GeoHit::id).containsExactlyElementsOf(expected.stream().map(GeoHit::id).toList());
+        assertThat(hits).extracting(GeoHit::distanceMeters)
+                .containsExactlyElementsOf(expected.stream().map(GeoHit::distanceMeters).toList());
+    }
+
+    @Test
+    void put_shouldMoveExistingEntryToNewCell() {
+        grid.put("moving", TestDataFactory.GANGNAM_LAT, TestDataFactory.GANGNAM_LNG);
+        grid.put("moving", TestDataFactory.HONGDAE_LAT, TestDataFactory.HONGDAE_LNG);
+
+        assertThat(grid.size()).isEqualTo(1);
+        assertThat(grid.search(TestDataFactory.GANGNAM_LAT, TestDataFactory.GANGNAM_LNG, 1000, 10))
+                .isEmpty();
+        assertThat(grid.search(TestDataFactory.HONGDAE_LAT, TestDataFactory.HONGDAE_LNG, 1000, 10))
+                .extracting(GeoHit::id).containsExactly("moving");
+    }
+
+    @Test
+    void remove_shouldExcludeEntryAndReuseSlot() {
+        grid.put("a", 37.5, 127.0);
+        grid.put("b", 37.5001, 127.0001);
+
+        assertThat(grid.remove("a")).isTrue();
+        assertThat(grid.remove("a")).isFalse();
+        grid.put("c", 37.5002, 127.0002);
+
+        assertThat(grid.size()).isEqualTo(2);
+        assertThat(grid.search(37.5, 127.0, 500, 10)).extracting(GeoHit::id).containsExactly("b", "c");
+    }
+
+    @Test
+    void search_shouldWrapAroundAntimeridian() {
+        grid.put("east", 0.0, 179.999);
+        grid.put("west", 0.0, -179.999);
+
+        List<GeoHit> hits = grid.search(0.0, 179.9995, 1000, 10);
+
+        assertThat(hits).extracting(GeoHit::id).containsExactly("east", "west");
+    }
+
+    @Test
+    void search_shouldBreakDistanceTiesById() {
+        grid.put("b", 37.5, 127.0);
+        grid.put("a", 37.5, 127.0);
+        grid.put("c", 37.5, 127.0);
+
+        assertThat(grid.search(37.5, 127.0, 100, 2)).extracting(GeoHit::id).containsExactly("a", "b");
+    }
+
+    @Test
+    void search_shouldPageAfterCursorWithoutSkippingTies() {
+        grid.put("b", 37.5, 127.0);
+        grid.put("a", 37.5, 127.0);
+        grid.put("c", 37.5, 127.0);
+        grid.put("far", 37.501, 127.0);
+
+        List<GeoHit> first = grid.search(37.5, 127.0, 1000, 2, 0, null);
+        List<GeoHit> second = grid.search(37.5, 127.0, 1000, 2, 0, GeoCursor.after(first.get(1)));
+        List<GeoHit> third = grid.search(37.5, 127.0, 1000, 2, 0, GeoCursor.after(second.get(1)));
+
+        assertThat(first).extracting(GeoHit::id).containsExactly("a", "b");
+        assertThat(second).extracting(GeoHit::id).containsExactly("c", "far");
+        assertThat(third).isEmpty();
+    }
+
+    @Test
+    void cursor_shouldRoundTripAndRejectGarbage() {
+        GeoCursor cursor = new GeoCursor(123.4567, "biz-1");
+
+        assertThat(GeoCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThatThrownBy(() -> GeoCursor.decode("not a cursor")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GeoCursor.decode("YWJj")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidCellBits() {
+        assertThatThrownBy(() -> new GeohashGrid(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GeohashGrid(27)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
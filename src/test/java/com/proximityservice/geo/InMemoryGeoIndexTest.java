@@ -0,0 +1,91 @@
+package com.proximityservice.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.proximityservice.dto.BusinessSearchProjection;
+import com.proximityservice.repository.BusinessRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryGeoIndexTest {
+
+    @Mock
+    private BusinessRepository businessRepository;
+
+    private InMemoryGeoIndex geoIndex;
+
+    @BeforeEach
+    void setUp() {
+        geoIndex = new InMemoryGeoIndex(businessRepository, 13);
+    }
+
+    @Test
+    void shadowRebuild_shouldKeepServingLiveGridUntilSwap() {
+        geoIndex.add("old", 127.0396, 37.5012, "cafe");
+
+        ShadowRebuild shadow = geoIndex.beginShadowRebuild().orElseThrow();
+        shadow.addAll(List.of(new GeoEntry("new", 127.0398, 37.5014, "bar")));
+
+        // 재구축 중에도 검색은 기존 그리드를 그대로 본다
+        assertThat(geoIndex.search(GeoQuery.of(127.0396, 37.5012, 1000, 10)))
+                .extracting(GeoHit::id).containsExactly("old");
+        assertThat(shadow.size()).isEqualTo(1);
+        assertThat(shadow.positions(List.of("new", "old"))).containsOnlyKeys("new");
+
+        shadow.swap();
+
+        assertThat(geoIndex.search(GeoQuery.of(127.0396, 37.5012, 1000, 10)))
+                .extracting(GeoHit::id).containsExactly("new");
+    }
+
+    @Test
+    void shadowRebuild_shouldNotOverwriteWritesMadeDuringRebuild() {
+        ShadowRebuild shadow = geoIndex.beginShadowRebuild().orElseThrow();
+        geoIndex.add("moved", 126.9780, 37.5665, "bar");
+        geoIndex.remove("deleted");
+
+        // 재구축이 읽어 둔 옛 좌표와 지워진 업체가 그 사이의 쓰기를 덮지 않는다
+        shadow.addAll(List.of(
+                new GeoEntry("moved", 127.0396, 37.5012, "cafe"),
+                new GeoEntry("deleted", 127.0400, 37.5015, "cafe")));
+        shadow.swap();
+
+        assertThat(geoIndex.positions(List.of("moved", "deleted"))).containsOnlyKeys("moved");
+        assertThat(geoIndex.indexed(List.of("moved"), "bar")).containsExactly("moved");
+    }
+
+    @Test
+    void shadowRebuild_discardShouldKeepLiveGridAndRejectLaterWrites() {
+        geoIndex.add("live", 127.0396, 37.5012, "cafe");
+
+        ShadowRebuild shadow = geoIndex.beginShadowRebuild().orElseThrow();
+        shadow.addAll(List.of(new GeoEntry("partial", 127.0398, 37.5014, "cafe")));
+        shadow.discard();
+        geoIndex.add("after", 127.0398, 37.5014, "cafe");
+
+        assertThat(geoIndex.positions(List.of("live", "partial", "after"))).containsOnlyKeys("live", "after");
+        assertThatThrownBy(shadow::swap).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void rebuild_shouldSwapInGridLoadedFromMySql() {
+        geoIndex.add("stale", 127.0396, 37.5012, "cafe");
+        given(businessRepository.findMaxId()).willReturn(Optional.of("biz-2"));
+        given(businessRepository.findSearchProjectionsAfter(eq(""), eq("biz-2"), any())).willReturn(List.of(
+                new BusinessSearchProjection("biz-1", "업체 1", "서울 강남구", 37.5012, 127.0396, "cafe"),
+                new BusinessSearchProjection("biz-2", "업체 2", "서울 강남구", 37.5014, 127.0398, "bar")));
+
+        assertThat(geoIndex.rebuild()).isEqualTo(2);
+        assertThat(geoIndex.positions(List.of("stale", "biz-1", "biz-2"))).containsOnlyKeys("biz-1", "biz-2");
+    }
+}
@@ -0,0 +1,175 @@
+package com.proximityservice.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.proximityservice.config.RedisReadRouter;
+import com.proximityservice.repository.BusinessGeoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+class RedisGeoIndexTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7")
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisGeoIndex geoIndex;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        RedisReadRouter readRouter = new RedisReadRouter(
+                redisTemplate, new SimpleMeterRegistry(), "", 6379, Duration.ofSeconds(2));
+        geoIndex = new RedisGeoIndex(new BusinessGeoRepository(redisTemplate, readRouter));
+        geoIndex.clear();
+        geoIndex.beginShadowRebuild().orElseThrow().discard();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void shadowRebuild_shouldKeepServingLiveKeyUntilSwap() {
+        geoIndex.add("old", 127.0396, 37.5012, "cafe");
+
+        ShadowRebuild shadow = geoIndex.beginShadowRebuild().orElseThrow();
+        shadow.addAll(List.of(new GeoEntry("new", 127.0397, 37.5013, "bar")));
+
+        // 재구축 중에도 검색은 기존 라이브 키를 그대로 읽는다
+        assertThat(geoIndex.search(GeoQuery.of(127.0396, 37.5012, 1000, 10)))
+                .extracting(GeoHit::id).containsExactly("old");
+        assertThat(shadow.size()).isEqualTo(1);
+
+        shadow.swap();
+
+        assertThat(members(null)).containsExactly("new");
+        assertThat(members("bar")).containsExactly("new");
+        assertThat(members("cafe")).isEmpty();
+        assertThat(shadow.size()).isZero();
+    }
+
+    @Test
+    void shadowRebuild_shouldKeepWritesThatArriveDuringRebuild() {
+        ShadowRebuild shadow = geoIndex.beginShadowRebuild().orElseThrow();
+
+        // 재구축이 옛 좌표를 읽어 둔 사이에 들어온 쓰기와 삭제가 섀도 키에도 반영돼야 한다
+        geoIndex.add("moved", 126.9780, 37.5665, "bar");
+        geoIndex.remove("deleted");
+        shadow.addAll(List.of(
+                new GeoEntry("moved", 127.0396, 37.5012, "cafe"),
+                new GeoEntry("deleted", 127.0400, 37.5015, "cafe"),
+                new GeoEntry("untouched", 127.0410, 37.5020, "cafe")));
+        shadow.swap();
+
+        assertThat(members(null)).containsExactlyInAnyOrder("moved", "untouched");
+        assertThat(members("bar")).containsExactly("moved");
+        Point moved = geoIndex.positions(List.of("moved")).get("moved");
+        assertThat(moved.getX()).isCloseTo(126.9780, within(1e-4));
+        assertThat(moved.getY()).isCloseTo(37.5665, within(1e-4));
+    }
+
+    @Test
+    void shadowRebuild_shouldKeepWritesRelayedByAnotherInstance() {
+        RedisGeoIndex otherInstance = new RedisGeoIndex(new BusinessGeoRepository(redisTemplate,
+                new RedisReadRouter(redisTemplate, new SimpleMeterRegistry(), "", 6379, Duration.ofSeconds(2))));
+        ShadowRebuild shadow = geoIndex.beginShadowRebuild().orElseThrow();
+
+        // 재구축 표시가 Redis에 있으므로 배치를 돌리지 않는 인스턴스의 쓰기도 섀도 키에 남는다
+        otherInstance.add("moved", 126.9780, 37.5665, "bar");
+        otherInstance.remove("deleted");
+        shadow.addAll(List.of(
+                new GeoEntry("moved", 127.0396, 37.5012, "cafe"),
+                new GeoEntry("deleted", 127.0400, 37.5015, "cafe")));
+        shadow.swap();
+
+        assertThat(members(null)).containsExactly("moved");
+        assertThat(members("bar")).containsExactly("moved");
+        assertThat(members("cafe")).isEmpty();
+    }
+
+    @Test
+    void shadowRebuild_shouldRejectFillAfterDiscard() {
+        ShadowRebuild shadow = geoIndex.beginShadowRebuild().orElseThrow();
+        shadow.discard();
+
+        assertThatThrownBy(() -> shadow.addAll(List.of(new GeoEntry("late", 127.0397, 37.5013, "cafe"))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(shadow::swap).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void discardShadow_shouldLeaveLiveKeyUntouched() {
+        geoIndex.add("live", 127.0396, 37.5012, "cafe");
+        ShadowRebuild shadow = geoIndex.beginShadowRebuild().orElseThrow();
+        shadow.addAll(List.of(new GeoEntry("partial", 127.0397, 37.5013, "cafe")));
+
+        shadow.discard();
+        geoIndex.add("after", 127.0398, 37.5014, "cafe");
+
+        assertThat(members(null)).containsExactlyInAnyOrder("live", "after");
+        assertThat(shadow.size()).isZero();
+    }
+
+    @Test
+    void scanMembers_shouldStreamEachKeyInBatches() {
+        List<GeoEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            entries.add(new GeoEntry("biz-" + i, 127.0 + i * 0.0001, 37.5, i % 3 == 0 ? "bar" : "cafe"));
+        }
+        geoIndex.addAll(entries);
+
+        List<GeoMemberBatch> batches = new ArrayList<>();
+        geoIndex.scanMembers(50, batches::add);
+
+        // 키마다 ZSCAN 커서로 나눠 읽으므로 한 배치가 요청한 크기를 넘지 않는다
+        assertThat(batches).allSatisfy(batch -> assertThat(batch.ids()).hasSizeLessThanOrEqualTo(50));
+        assertThat(batches.stream().filter(batch -> batch.category() == null).flatMap(batch -> batch.ids().stream()))
+                .hasSize(300)
+                .doesNotHaveDuplicates();
+        assertThat(batches.stream()
+                .filter(batch -> "bar".equals(batch.category()))
+                .mapToInt(batch -> batch.ids().size())
+                .sum()).isEqualTo(100);
+        assertThat(geoIndex.indexed(List.of("biz-0", "biz-1", "missing"), null))
+                .containsExactlyInAnyOrder("biz-0", "biz-1");
+        assertThat(geoIndex.indexed(List.of("biz-0", "biz-1"), "bar")).containsExactly("biz-0");
+    }
+
+    private Set<String> members(String category) {
+        Set<String> members = new HashSet<>();
+        geoIndex.scanMembers(100, batch -> {
+            if (Objects.equals(batch.category(), category)) {
+                members.addAll(batch.ids());
+            }
+        });
+        return members;
+    }
+}
@@ -0,0 +1,235 @@
+package com.proximityservice.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.proximityservice.config.RedisReadRouter;
+import com.proximityservice.repository.ShardedBusinessGeoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+class ShardedRedisGeoIndexTest {
+
+    private static final int PRECISION = 5;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7")
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisReadRouter readRouter;
+    private ShardedRedisGeoIndex geoIndex;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        readRouter = new RedisReadRouter(
+                redisTemplate, new SimpleMeterRegistry(), "", 6379, Duration.ofSeconds(2));
+        geoIndex = new ShardedRedisGeoIndex(new ShardedBusinessGeoRepository(redisTemplate, readRouter), PRECISION);
+        geoIndex.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void search_shouldMergeShardsIntoGlobalTopK() {
+        double centerLat = 37.5012;
+        double centerLng = 127.0396;
+        Random random = new Random(7);
+        List<GeoHit> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            double lat = centerLat + (random.nextDouble() - 0.5) * 0.2;
+            double lng = centerLng + (random.nextDouble() - 0.5) * 0.2;
+            String id = "biz-" + i;
+            geoIndex.add(id, lng, lat, i % 2 == 0 ? "cafe" : "bar");
+            double distance = GeohashGrid.distanceMeters(centerLat, centerLng, lat, lng);
+            if (distance <= 5000) {
+                expected.add(new GeoHit(id, distance, lat, lng));
+            }
+        }
+        expected.sort(Comparator.comparingDouble(GeoHit::distanceMeters));
+
+        List<GeoHit> hits = geoIndex.search(GeoQuery.of(centerLng, centerLat, 5000, 30));
+
+        // 반경 5km는 여러 셀에 걸치므로 셀별 결과를 합친 상위 30개가 전체 기준 상위 30개와 같아야 한다
+        assertThat(membersByShard()).hasSizeGreaterThan(1);
+        assertThat(hits).isSortedAccordingTo(GeoHit.BY_DISTANCE);
+        assertThat(hits).extracting(GeoHit::id)
+                .containsExactlyInAnyOrderElementsOf(expected.subList(0, 30).stream().map(GeoHit::id).toList());
+    }
+
+    @Test
+    void add_shouldMoveBusinessToNewShard() {
+        geoIndex.add("biz-1", 127.0396, 37.5012, "cafe");
+        String before = geoIndex.shardOf(127.0396, 37.5012);
+        geoIndex.add("biz-1", 126.9780, 37.5665, "bar");
+        String after = geoIndex.shardOf(126.9780, 37.5665);
+
+        assertThat(before).isNotEqualTo(after);
+        assertThat(redisTemplate.hasKey("geo:businesses:{" + before + "}")).isFalse();
+        assertThat(membersByShard()).containsOnlyKeys(after);
+        assertThat(members("cafe")).isEmpty();
+        assertThat(members("bar")).containsExactly("biz-1");
+    }
+
+    @Test
+    void add_shouldKeepSingleShardUnderConcurrentMoves() throws Exception {
+        double[][] locations = {{127.0396, 37.5012}, {126.9780, 37.5665}, {126.9236, 37.5563}, {127.1000, 37.5150}};
+        String[] categories = {"cafe", "bar"};
+
+        // 릴레이와 정합성 배치가 같은 업체를 동시에 서로 다른 셀로 옮겨도 멤버는 한 셀에만 남는다
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> moves = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                double[] location = locations[i % locations.length];
+                String category = categories[i % categories.length];
+                moves.add(executor.submit(() -> geoIndex.add("biz-1", location[0], location[1], category)));
+            }
+            for (Future<?> move : moves) {
+                move.get();
+            }
+        }
+
+        Map<String, Set<String>> shards = membersByShard();
+        assertThat(shards).hasSize(1);
+        String cell = shards.keySet().iterator().next();
+        assertThat(redisTemplate.opsForHash().get(ShardedBusinessGeoRepository.directoryKey("biz-1"), "biz-1"))
+                .isEqualTo(cell);
+        assertThat(shards.get(cell)).containsExactly("biz-1");
+        assertThat(members("cafe").size() + members("bar").size()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_shouldDeleteFromShardAndDirectory() {
+        geoIndex.add("biz-1", 127.0396, 37.5012, "cafe");
+
+        geoIndex.remove("biz-1");
+
+        assertThat(members(null)).isEmpty();
+        assertThat(geoIndex.search(GeoQuery.of(127.0396, 37.5012, 1000, 10))).isEmpty();
+    }
+
+    @Test
+    void addAll_shouldIndexInBatchesAndMoveExistingBusinesses() {
+        geoIndex = new ShardedRedisGeoIndex(new ShardedBusinessGeoRepository(redisTemplate, readRouter, 2), PRECISION);
+        geoIndex.add("biz-1", 127.0396, 37.5012, "cafe");
+
+        geoIndex.addAll(List.of(
+                new GeoEntry("biz-1", 126.9780, 37.5665, "bar"),
+                new GeoEntry("biz-2", 127.0396, 37.5012, "cafe"),
+                new GeoEntry("biz-3", 127.0400, 37.5015, "cafe")));
+
+        // 배치 크기 2로 나뉘어도 옛 셀의 항목은 지워지고 디렉터리는 새 셀을 가리킨다
+        assertThat(members(null)).containsExactlyInAnyOrder("biz-1", "biz-2", "biz-3");
+        assertThat(members("bar")).containsExactly("biz-1");
+        assertThat(members("cafe")).containsExactlyInAnyOrder("biz-2", "biz-3");
+        assertThat(redisTemplate.opsForHash().get(ShardedBusinessGeoRepository.directoryKey("biz-1"), "biz-1"))
+                .isEqualTo(geoIndex.shardOf(126.9780, 37.5665));
+        assertThat(geoIndex.positions(List.of("biz-1", "biz-3", "missing"))).containsOnlyKeys("biz-1", "biz-3");
+    }
+
+    @Test
+    void removeAll_shouldDeleteFromShardsAndDirectory() {
+        geoIndex.addAll(List.of(
+                new GeoEntry("biz-1", 127.0396, 37.5012, "cafe"),
+                new GeoEntry("biz-2", 126.9780, 37.5665, "bar")));
+
+        geoIndex.removeAll(List.of("biz-1", "biz-2"));
+
+        assertThat(members(null)).isEmpty();
+        assertThat(redisTemplate.hasKey(ShardedBusinessGeoRepository.directoryKey("biz-1"))).isFalse();
+        assertThat(redisTemplate.hasKey(ShardedBusinessGeoRepository.directoryKey("biz-2"))).isFalse();
+    }
+
+    @Test
+    void addAll_shouldSpreadDirectoryAcrossHashTaggedBuckets() {
+        List<GeoEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entries.add(new GeoEntry("biz-" + i, 127.0396, 37.5012, "cafe"));
+        }
+
+        geoIndex.addAll(entries);
+
+        // 디렉터리가 한 해시(한 슬롯)에 몰리지 않고 해시태그 버킷 여러 개로 나뉜다
+        Set<String> buckets = redisTemplate.keys("geo:businesses:directory:{*");
+        assertThat(buckets).hasSizeGreaterThan(1);
+        assertThat(buckets).allMatch(key -> key.endsWith("}"));
+        for (GeoEntry entry : entries) {
+            String bucket = ShardedBusinessGeoRepository.directoryKey(entry.id());
+            assertThat(redisTemplate.opsForHash().get(bucket, entry.id()))
+                    .isEqualTo(geoIndex.shardOf(127.0396, 37.5012));
+        }
+    }
+
+    @Test
+    void scanMembers_shouldReportShardAndCategoryOfEachKey() {
+        geoIndex.addAll(List.of(
+                new GeoEntry("biz-1", 127.0396, 37.5012, "cafe"),
+                new GeoEntry("biz-2", 126.9780, 37.5665, "bar")));
+        String gangnam = geoIndex.shardOf(127.0396, 37.5012);
+        String jongno = geoIndex.shardOf(126.9780, 37.5665);
+
+        List<GeoMemberBatch> batches = new ArrayList<>();
+        geoIndex.scanMembers(100, batches::add);
+
+        assertThat(batches).containsExactlyInAnyOrder(
+                new GeoMemberBatch(gangnam, null, List.of("biz-1")),
+                new GeoMemberBatch(gangnam, "cafe", List.of("biz-1")),
+                new GeoMemberBatch(jongno, null, List.of("biz-2")),
+                new GeoMemberBatch(jongno, "bar", List.of("biz-2")));
+        assertThat(geoIndex.indexed(List.of("biz-1", "biz-2", "missing"), null))
+                .containsExactlyInAnyOrder("biz-1", "biz-2");
+        assertThat(geoIndex.indexed(List.of("biz-1", "biz-2"), "cafe")).containsExactly("biz-1");
+    }
+
+    private Set<String> members(String category) {
+        Set<String> members = new HashSet<>();
+        geoIndex.scanMembers(100, batch -> {
+            if (Objects.equals(batch.category(), category)) {
+                members.addAll(batch.ids());
+            }
+        });
+        return members;
+    }
+
+    private Map<String, Set<String>> membersByShard() {
+        Map<String, Set<String>> shards = new HashMap<>();
+        geoIndex.scanMembers(100, batch -> {
+            if (batch.category() == null) {
+                shards.computeIfAbsent(batch.shard(), shard -> new HashSet<>()).addAll(batch.ids());
+            }
+        });
+        return shards;
+    }
+}
@@ -7,6 +7,7 @@ import com.proximityservice.dto.BusinessCreateRequest;
 import com.proximityservice.dto.NearbySearchResponse;
 import com.proximityservice.support.BaseIntegrationTest;
 import com.proximityservice.support.TestDataFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
@@ -16,11 +17,15 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 
 @Tag("performance")
 @DisplayName("동시 검색 정확성 테스트")
 class ConcurrentSearchTest extends BaseIntegrationTest {
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     @DisplayName("10 스레드 x 50 검색: 예외 없음, 결과 정확")
     void concurrentReadsShouldBeAccurate() throws Exception {
@@ -153,4 +158,55 @@ class ConcurrentSearchTest extends BaseIntegrationTest {
         assertThat(writeError.get()).isEqualTo(0);
         assertThat(mysqlCount).isEqualTo(redisCount);
     }
+
+    @Test
+    @DisplayName("200 동시 동일 검색: 진행 중인 검색에 합류해 백엔드 실행을 줄인다")
+    void identicalConcurrentSearchesShouldCollapse() throws Exception {
+        List<BusinessCreateRequest> requests = TestDataFactory.generateBulk(
+                TestDataFactory.GANGNAM_LAT, TestDataFactory.GANGNAM_LNG, 500, 5000);
+        for (BusinessCreateRequest req : requests) {
+            businessService.create(req);
+        }
+        NearbySearchResponse expected = nearbySearchService.searchNearby(
+                TestDataFactory.GANGNAM_LAT, TestDataFactory.GANGNAM_LNG, 5000, 50);
+        double leadersBefore = singleFlightCalls("leader");
+        double followersBefore = singleFlightCalls("follower");
+
+        int callers = 200;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger errorCount = new AtomicInteger(0);
+        CopyOnWriteArrayList<NearbySearchResponse> responses = new CopyOnWriteArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < callers; c++) {
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        responses.add(nearbySearchService.searchNearby(
+                                TestDataFactory.GANGNAM_LAT, TestDataFactory.GANGNAM_LNG, 5000, 50));
+                    } catch (Exception e) {
+                        errorCount.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        double leaders = singleFlightCalls("leader") - leadersBefore;
+        double followers = singleFlightCalls("follower") - followersBefore;
+
+        printHeader("동시 동일 검색: 200 호출");
+        printResult("백엔드 실행 (리더)", (long) leaders);
+        printResult("합류 (팔로워)", (long) followers);
+        printResult("합류 비율", String.format("%.1f%%", 100.0 * followers / callers));
+        printPassFail("에러 없음", errorCount.get() == 0);
+
+        assertThat(errorCount.get()).isEqualTo(0);
+        assertThat(responses).hasSize(callers).allSatisfy(response -> assertThat(response).isEqualTo(expected));
+        assertThat(leaders).isLessThan(callers);
+    }
+
+    private double singleFlightCalls(String role) {
+        return meterRegistry.get("search.single.flight.calls").tag("role", role).counter().count();
+    }
 }
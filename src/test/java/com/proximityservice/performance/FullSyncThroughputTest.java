@@ -0,0 +1,130 @@
+package com.proximityservice.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.proximityservice.batch.GeoOutboxRelay;
+import com.proximityservice.batch.SyncBatchService;
+import com.proximityservice.dto.SyncBatchResult;
+import com.proximityservice.geo.GeoIndex;
+import com.proximityservice.repository.BusinessProjectionRepository;
+import com.proximityservice.repository.GeoOutboxRepository;
+import com.proximityservice.support.BaseIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Tag("performance")
+@DisplayName("키셋 병렬 fullSync 처리량 측정")
+class FullSyncThroughputTest extends BaseIntegrationTest {
+
+    // -Dsync.rows로 줄여서 돌릴 수 있다
+    private static final int ROWS = Integer.getInteger("sync.rows", 10_000_000);
+    private static final int SCALING_ROWS = Math.min(ROWS, 200_000);
+    private static final int SEED_BATCH = 1_000_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GeoIndex geoIndex;
+
+    @Autowired
+    private BusinessProjectionRepository projectionRepository;
+
+    @Autowired
+    private GeoOutboxRepository outboxRepository;
+
+    @Autowired
+    private GeoOutboxRelay outboxRelay;
+
+    @AfterEach
+    void dropSeededRows() {
+        // 기본 정리(deleteAll)는 엔티티를 하나씩 읽어 지우므로 대량 데이터는 직접 비운다
+        jdbcTemplate.execute("TRUNCATE TABLE business");
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Test
+    @DisplayName("10,000,000건 fullSync: 유실 없이 전체 처리 및 처리량 측정")
+    void fullSyncShouldIndexEveryRow() {
+        seed(ROWS);
+
+        long start = System.currentTimeMillis();
+        SyncBatchResult result = syncBatchService.fullSync();
+        long durationMs = System.currentTimeMillis() - start;
+
+        printHeader("키셋 병렬 fullSync: " + String.format("%,d", ROWS) + "건");
+        printResult("워커 수", Runtime.getRuntime().availableProcessors());
+        printResult("처리 건수", result.totalProcessed());
+        printResult("added", result.added());
+        printResult("errors", result.errors());
+        printResult("소요시간", durationMs + "ms");
+        printResult("처리량", String.format("%,d건/s", ROWS * 1000L / Math.max(durationMs, 1)));
+
+        assertThat(result.status()).isEqualTo("SUCCESS");
+        assertThat(result.totalProcessed()).isEqualTo(ROWS);
+        assertThat(result.added()).isEqualTo(ROWS);
+        assertThat(getRedisMemberCount()).isEqualTo(ROWS);
+    }
+
+    @Test
+    @DisplayName("워커 1개 대비 코어 수만큼 워커를 둘 때 처리량 비교")
+    void fullSyncShouldScaleWithWorkers() {
+        seed(SCALING_ROWS);
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        long singleMs = timeFullSync(newService(1));
+        long parallelMs = timeFullSync(newService(cores));
+
+        printHeader("워커 수별 fullSync: " + String.format("%,d", SCALING_ROWS) + "건");
+        printResult("워커 1개", singleMs + "ms");
+        printResult("워커 " + cores + "개", parallelMs + "ms");
+        printResult("속도 향상", String.format("%.2fx", (double) singleMs / Math.max(parallelMs, 1)));
+        printPassFail("병렬 처리가 더 빠름", parallelMs < singleMs);
+
+        assertThat(getRedisMemberCount()).isEqualTo(SCALING_ROWS);
+    }
+
+    private long timeFullSync(SyncBatchService service) {
+        long start = System.currentTimeMillis();
+        SyncBatchResult result = service.fullSync();
+        long durationMs = System.currentTimeMillis() - start;
+        assertThat(result.status()).isEqualTo("SUCCESS");
+        assertThat(result.added()).isEqualTo(SCALING_ROWS);
+        return durationMs;
+    }
+
+    private SyncBatchService newService(int workers) {
+        return new SyncBatchService(businessRepository, geoIndex, projectionRepository, outboxRepository,
+                outboxRelay, workers, 64, 2000);
+    }
+
+    // 애플리케이션을 거치지 않고 MySQL 안에서 숫자 테이블을 교차 조인해 한 번에 100만 건씩 만든다
+    private void seed(int rows) {
+        for (int offset = 0; offset < rows; offset += SEED_BATCH) {
+            jdbcTemplate.update("""
+                    INSERT INTO business
+                        (id, name, address, latitude, longitude, category, created_at, updated_at)
+                    WITH digits AS (
+                        SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+                        UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9
+                    ), seq AS (
+                        SELECT ? + a.d + b.d * 10 + c.d * 100 + d.d * 1000 + e.d * 10000 + f.d * 100000 AS n
+                        FROM digits a, digits b, digits c, digits d, digits e, digits f
+                    )
+                    SELECT UUID(), CONCAT('업체_', n), CONCAT('서울시 테스트 ', n),
+                           37.4 + RAND(n) * 0.3, 126.8 + RAND(n + 1) * 0.4,
+                           ELT(1 + n % 5, 'korean_food', 'cafe', 'bar', 'convenience', 'pharmacy'),
+                           NOW(), NOW()
+                    FROM seq
+                    WHERE n < ?
+                    """, offset, rows);
+        }
+    }
+}
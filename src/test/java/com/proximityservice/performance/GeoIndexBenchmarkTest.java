@@ -0,0 +1,119 @@
+package com.proximityservice.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.proximityservice.domain.Business;
+import com.proximityservice.dto.BusinessCreateRequest;
+import com.proximityservice.geo.GeoHit;
+import com.proximityservice.geo.GeoIndex;
+import com.proximityservice.geo.GeoQuery;
+import com.proximityservice.geo.InMemoryGeoIndex;
+import com.proximityservice.geo.MySqlSpatialGeoIndex;
+import com.proximityservice.geo.RedisGeoIndex;
+import com.proximityservice.support.BaseIntegrationTest;
+import com.proximityservice.support.TestDataFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Tag("performance")
+@DisplayName("GeoIndex 백엔드 비교 (Redis / In-memory / MySQL)")
+class GeoIndexBenchmarkTest extends BaseIntegrationTest {
+
+    private static final int DATA_COUNT = 10000;
+    private static final int QUERY_COUNT = 200;
+    private static final int WARMUP = 20;
+    private static final int RADIUS = 3000;
+    private static final int LIMIT = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("10,000건 동일 쿼리셋: 백엔드별 p50/p95 및 결과 일치율")
+    void compareBackendsOnSameQuerySet() {
+        List<BusinessCreateRequest> requests = TestDataFactory.generateBulk(
+                TestDataFactory.GANGNAM_LAT, TestDataFactory.GANGNAM_LNG, DATA_COUNT, 20000);
+        businessRepository.saveAll(requests.stream()
+                .map(r -> new Business(r.name(), r.address(), r.latitude(), r.longitude(),
+                        r.category(), r.phone(), r.hours()))
+                .toList());
+        syncBatchService.fullSync();
+
+        InMemoryGeoIndex memoryIndex = new InMemoryGeoIndex(businessRepository, 13);
+        memoryIndex.rebuild();
+
+        Map<String, GeoIndex> backends = new LinkedHashMap<>();
+        backends.put("redis", new RedisGeoIndex(geoRepository));
+        backends.put("memory", memoryIndex);
+        backends.put("mysql", new MySqlSpatialGeoIndex(jdbcTemplate, Duration.ZERO));
+
+        double[][] queries = generateQueries();
+
+        printHeader("GeoIndex 백엔드 비교: " + String.format("%,d", DATA_COUNT) + "건, 반경 " + RADIUS + "m");
+        Map<String, List<List<GeoHit>>> resultsByBackend = new LinkedHashMap<>();
+        for (Map.Entry<String, GeoIndex> entry : backends.entrySet()) {
+            GeoIndex index = entry.getValue();
+            for (int i = 0; i < WARMUP; i++) {
+                index.search(GeoQuery.of(queries[i][1], queries[i][0], RADIUS, LIMIT));
+            }
+
+            long[] latencies = new long[QUERY_COUNT];
+            List<List<GeoHit>> results = new ArrayList<>();
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                long start = System.nanoTime();
+                results.add(index.search(GeoQuery.of(queries[i][1], queries[i][0], RADIUS, LIMIT)));
+                latencies[i] = (System.nanoTime() - start) / 1_000;
+            }
+            Arrays.sort(latencies);
+            resultsByBackend.put(entry.getKey(), results);
+
+            printResult(entry.getKey() + " p50", latencies[QUERY_COUNT / 2] + "us");
+            printResult(entry.getKey() + " p95", latencies[(int) Math.ceil(0.95 * QUERY_COUNT) - 1] + "us");
+        }
+
+        double memoryOverlap = overlap(resultsByBackend.get("redis"), resultsByBackend.get("memory"));
+        double mysqlOverlap = overlap(resultsByBackend.get("redis"), resultsByBackend.get("mysql"));
+        printResult("redis↔memory 결과 일치율", String.format("%.3f", memoryOverlap));
+        printResult("redis↔mysql 결과 일치율", String.format("%.3f", mysqlOverlap));
+        printPassFail("결과 일치율 >= 0.95", memoryOverlap >= 0.95 && mysqlOverlap >= 0.95);
+
+        assertThat(memoryOverlap).isGreaterThanOrEqualTo(0.95);
+        assertThat(mysqlOverlap).isGreaterThanOrEqualTo(0.95);
+    }
+
+    private double[][] generateQueries() {
+        Random random = new Random(7);
+        double[][] queries = new double[QUERY_COUNT][];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            double north = (random.nextDouble() - 0.5) * 20000;
+            double east = (random.nextDouble() - 0.5) * 20000;
+            double lat = TestDataFactory.latOffsetMeters(TestDataFactory.GANGNAM_LAT, north);
+            queries[i] = new double[]{lat, TestDataFactory.lngOffsetMeters(lat, TestDataFactory.GANGNAM_LNG, east)};
+        }
+        return queries;
+    }
+
+    // 경계 근처 업체는 엔진별 좌표 정밀도 차이로 순위가 갈릴 수 있어 집합 교집합 비율로 비교
+    private double overlap(List<List<GeoHit>> expected, List<List<GeoHit>> actual) {
+        int total = 0;
+        int matched = 0;
+        for (int i = 0; i < expected.size(); i++) {
+            Set<String> expectedIds = new HashSet<>(expected.get(i).stream().map(GeoHit::id).toList());
+            total += expectedIds.size();
+            matched += (int) actual.get(i).stream().map(GeoHit::id).filter(expectedIds::contains).count();
+        }
+        return total == 0 ? 1.0 : (double) matched / total;
+    }
+}
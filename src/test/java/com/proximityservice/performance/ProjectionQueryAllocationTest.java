@@ -0,0 +1,106 @@
+package com.proximityservice.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.proximityservice.domain.Business;
+import com.proximityservice.dto.BusinessCreateRequest;
+import com.proximityservice.dto.BusinessDetailResponse;
+import com.proximityservice.dto.BusinessSearchProjection;
+import com.proximityservice.support.BaseIntegrationTest;
+import com.proximityservice.support.TestDataFactory;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntConsumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("performance")
+@DisplayName("엔티티 조회 vs 프로젝션 조회 할당량 비교")
+class ProjectionQueryAllocationTest extends BaseIntegrationTest {
+
+    private static final int DATA_COUNT = 2000;
+    private static final int ITERATIONS = 2000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("검색 결과 하이드레이션(20건) / 상세 조회: 호출당 할당 바이트와 소요 시간")
+    void compareEntityAndProjectionQueries() {
+        List<BusinessCreateRequest> requests = TestDataFactory.generateBulk(
+                TestDataFactory.GANGNAM_LAT, TestDataFactory.GANGNAM_LNG, DATA_COUNT, 5000);
+        List<String> ids = businessRepository.saveAll(requests.stream()
+                        .map(r -> new Business(r.name(), r.address(), r.latitude(), r.longitude(),
+                                r.category(), r.phone(), r.hours()))
+                        .toList())
+                .stream()
+                .map(Business::getId)
+                .toList();
+
+        List<String> page = ids.subList(0, PAGE_SIZE);
+        List<BusinessSearchProjection> fromEntities = businessRepository.findAllById(page).stream()
+                .map(BusinessSearchProjection::from)
+                .sorted(Comparator.comparing(BusinessSearchProjection::id))
+                .toList();
+        List<BusinessSearchProjection> fromQuery = businessRepository.findSearchProjectionsByIdIn(page).stream()
+                .sorted(Comparator.comparing(BusinessSearchProjection::id))
+                .toList();
+        BusinessDetailResponse detailFromEntity = BusinessDetailResponse.from(businessService.getById(ids.get(0)));
+        BusinessDetailResponse detailFromQuery = businessService.getDetail(ids.get(0));
+
+        Result hydrateEntity = measure(n -> businessRepository.findAllById(page(ids, n)).stream()
+                .map(BusinessSearchProjection::from)
+                .toList());
+        Result hydrateProjection = measure(n -> businessRepository.findSearchProjectionsByIdIn(page(ids, n)));
+        Result detailEntity = measure(n -> BusinessDetailResponse.from(
+                businessService.getById(ids.get(n % ids.size()))));
+        Result detailProjection = measure(n -> businessService.getDetail(ids.get(n % ids.size())));
+
+        printHeader(String.format("호출 %,d회 (하이드레이션 %d건/호출)", ITERATIONS, PAGE_SIZE));
+        print("하이드레이션 엔티티", hydrateEntity);
+        print("하이드레이션 프로젝션", hydrateProjection);
+        print("상세 조회 엔티티", detailEntity);
+        print("상세 조회 프로젝션", detailProjection);
+        printResult("하이드레이션 할당 감소율", reduction(hydrateEntity, hydrateProjection));
+        printResult("상세 조회 할당 감소율", reduction(detailEntity, detailProjection));
+        printPassFail("결과 일치", fromEntities.equals(fromQuery) && detailFromEntity.equals(detailFromQuery));
+
+        assertThat(fromQuery).isEqualTo(fromEntities);
+        assertThat(detailFromQuery).isEqualTo(detailFromEntity);
+    }
+
+    private static List<String> page(List<String> ids, int n) {
+        int from = (n * PAGE_SIZE) % (ids.size() - PAGE_SIZE);
+        return ids.subList(from, from + PAGE_SIZE);
+    }
+
+    private static Result measure(IntConsumer call) {
+        // 워밍업
+        for (int i = 0; i < ITERATIONS / 4; i++) {
+            call.accept(i);
+        }
+        long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.accept(i);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Result(allocated / ITERATIONS, elapsedNanos / ITERATIONS / 1000);
+    }
+
+    private static void print(String label, Result result) {
+        printResult(label + " 할당", String.format("%,d B/호출", result.bytesPerCall()));
+        printResult(label + " 소요", result.microsPerCall() + "µs/호출");
+    }
+
+    private static String reduction(Result before, Result after) {
+        return String.format("%.1f%%", 100.0 * (before.bytesPerCall() - after.bytesPerCall()) / before.bytesPerCall());
+    }
+
+    private record Result(long bytesPerCall, long microsPerCall) {
+    }
+}
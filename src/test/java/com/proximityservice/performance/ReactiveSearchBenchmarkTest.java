@@ -0,0 +1,140 @@
+package com.proximityservice.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.proximityservice.domain.Business;
+import com.proximityservice.dto.BusinessCreateRequest;
+import com.proximityservice.dto.NearbySearchResponse;
+import com.proximityservice.service.ReactiveNearbySearchService;
+import com.proximityservice.support.BaseIntegrationTest;
+import com.proximityservice.support.TestDataFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Tag("performance")
+@DisplayName("검색 처리 모델 비교 (서블릿 블로킹 vs 리액티브 논블로킹)")
+class ReactiveSearchBenchmarkTest extends BaseIntegrationTest {
+
+    private static final int DATA_COUNT = 2000;
+    private static final int REQUESTS = 10000;
+    private static final int IN_FLIGHT = 2000;
+    private static final int SERVLET_THREADS = 200;
+    private static final int RADIUS = 2000;
+    private static final int LIMIT = 20;
+
+    @Autowired
+    private ReactiveNearbySearchService reactiveSearchService;
+
+    @Test
+    @DisplayName("동시 2,000 연결 / 검색 10,000건: 처리량, p50/p99, 사용 스레드 수")
+    void compareServletAndReactive() throws Exception {
+        List<BusinessCreateRequest> requests = TestDataFactory.generateBulk(
+                TestDataFactory.GANGNAM_LAT, TestDataFactory.GANGNAM_LNG, DATA_COUNT, 5000);
+        businessRepository.saveAll(requests.stream()
+                .map(r -> new Business(r.name(), r.address(), r.latitude(), r.longitude(),
+                        r.category(), r.phone(), r.hours()))
+                .toList());
+        syncBatchService.fullSync();
+
+        // 워밍업
+        runServlet(500);
+        runReactive(500);
+
+        Result servlet = runServlet(REQUESTS);
+        Result reactive = runReactive(REQUESTS);
+
+        printHeader(String.format("검색 %,d건, 동시 %,d건", REQUESTS, IN_FLIGHT));
+        print("servlet(" + SERVLET_THREADS + ")", servlet);
+        print("reactive", reactive);
+        printPassFail("결과 수 일치", servlet.resultCount() == reactive.resultCount());
+        printPassFail("에러 없음", servlet.errors() == 0 && reactive.errors() == 0);
+
+        assertThat(servlet.errors()).isZero();
+        assertThat(reactive.errors()).isZero();
+        assertThat(reactive.resultCount()).isEqualTo(servlet.resultCount());
+    }
+
+    private Result runServlet(int count) throws Exception {
+        long[] latencies = new long[count];
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger resultCount = new AtomicInteger();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>(count);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(SERVLET_THREADS)) {
+            for (int i = 0; i < count; i++) {
+                int n = i;
+                futures.add(executor.submit(() -> {
+                    try {
+                        NearbySearchResponse response = nearbySearchService.searchNearby(
+                                TestDataFactory.GANGNAM_LAT, TestDataFactory.GANGNAM_LNG, RADIUS, LIMIT);
+                        resultCount.set(response.total());
+                        threads.add(Thread.currentThread().getName());
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[n] = (System.nanoTime() - start) / 1_000_000;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return result(start, latencies, resultCount.get(), errors.get(), threads.size());
+    }
+
+    private Result runReactive(int count) {
+        long[] latencies = new long[count];
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger resultCount = new AtomicInteger();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        long start = System.nanoTime();
+        Flux.range(0, count)
+                .flatMap(n -> reactiveSearchService.searchNearby(TestDataFactory.GANGNAM_LAT,
+                                TestDataFactory.GANGNAM_LNG, RADIUS, LIMIT, List.of(), null)
+                        .doOnNext(response -> {
+                            resultCount.set(response.total());
+                            threads.add(Thread.currentThread().getName());
+                        })
+                        .doOnError(e -> errors.incrementAndGet())
+                        .onErrorResume(e -> Mono.empty())
+                        .doFinally(signal -> latencies[n] = (System.nanoTime() - start) / 1_000_000),
+                        IN_FLIGHT)
+                .blockLast();
+        return result(start, latencies, resultCount.get(), errors.get(), threads.size());
+    }
+
+    private Result result(long start, long[] latencies, int resultCount, int errors, int threadCount) {
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        Arrays.sort(latencies);
+        int count = latencies.length;
+        return new Result(count * 1000L / elapsedMs, latencies[count / 2],
+                latencies[(int) Math.ceil(0.99 * count) - 1], resultCount, errors, threadCount);
+    }
+
+    private void print(String label, Result result) {
+        printResult(label + " 처리량", String.format("%,d req/s", result.throughput()));
+        printResult(label + " p50 (대기 포함)", result.p50Ms() + "ms");
+        printResult(label + " p99 (대기 포함)", result.p99Ms() + "ms");
+        printResult(label + " 응답 처리 스레드 수", result.threadCount());
+    }
+
+    private record Result(long throughput, long p50Ms, long p99Ms, int resultCount, int errors, int threadCount) {
+    }
+}
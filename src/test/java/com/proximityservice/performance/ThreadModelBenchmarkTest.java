@@ -0,0 +1,187 @@
+package com.proximityservice.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.proximityservice.domain.Business;
+import com.proximityservice.dto.BusinessCreateRequest;
+import com.proximityservice.support.BaseIntegrationTest;
+import com.proximityservice.support.TestDataFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+@Tag("performance")
+@DisplayName("스레드 모델 비교 (플랫폼 스레드 풀 vs 가상 스레드 + 벌크헤드)")
+@TestPropertySource(properties = {
+        "proximity.search.single-flight.max-wait=0",
+        "proximity.cache.search.enabled=false"
+})
+class ThreadModelBenchmarkTest {
+
+    private static final int DATA_COUNT = 2000;
+    private static final int REQUESTS = 5000;
+    private static final int PLATFORM_THREADS = 200;
+    private static final double SPREAD_DEGREES = 0.03;
+
+    private static final Map<String, Result> results = new ConcurrentHashMap<>();
+
+    @AfterAll
+    static void printComparison() {
+        ServerBenchmark.report(results);
+    }
+
+    @Nested
+    @DisplayName("톰캣 플랫폼 스레드 풀(" + PLATFORM_THREADS + ")")
+    @TestPropertySource(properties = {
+            "spring.threads.virtual.enabled=false",
+            "server.tomcat.threads.max=" + PLATFORM_THREADS
+    })
+    class PlatformThreads extends ServerBenchmark {
+
+        @Override
+        String label() {
+            return "platform(" + PLATFORM_THREADS + ")";
+        }
+    }
+
+    @Nested
+    @DisplayName("가상 스레드 + 벌크헤드")
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    class VirtualThreads extends ServerBenchmark {
+
+        @Override
+        String label() {
+            return "virtual";
+        }
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+    abstract static class ServerBenchmark extends BaseIntegrationTest {
+
+        @LocalServerPort
+        private int port;
+
+        private final HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        abstract String label();
+
+        static void report(Map<String, Result> results) {
+            printHeader("스레드 모델 비교: HTTP 요청 " + String.format("%,d", REQUESTS)
+                    + "건 (검색 80% / 상세 20%, 좌표 분산, 단일 비행·응답 캐시 끔)");
+            results.forEach((label, result) -> {
+                printResult(label + " 총 처리 시간", result.elapsedMs() + "ms");
+                printResult(label + " p50 (대기 포함)", result.p50Ms() + "ms");
+                printResult(label + " p95 (대기 포함)", result.p95Ms() + "ms");
+                printResult(label + " 벌크헤드 거절", result.rejected());
+                printPassFail(label + " 예상치 못한 에러 없음", result.errors() == 0);
+            });
+        }
+
+        @Test
+        @DisplayName("서로 다른 좌표의 혼합 요청 5,000건 동시 도착: 처리 시간, p50/p95, 거절 수")
+        void burst() throws Exception {
+            List<BusinessCreateRequest> requests = TestDataFactory.generateBulk(
+                    TestDataFactory.GANGNAM_LAT, TestDataFactory.GANGNAM_LNG, DATA_COUNT, 5000);
+            List<Business> businesses = businessRepository.saveAll(requests.stream()
+                    .map(r -> new Business(r.name(), r.address(), r.latitude(), r.longitude(),
+                            r.category(), r.phone(), r.hours()))
+                    .toList());
+            syncBatchService.fullSync();
+            List<String> ids = businesses.stream().map(Business::getId).toList();
+
+            // 워밍업
+            run(uris(ids, 500, 7L));
+
+            Result result = run(uris(ids, REQUESTS, 42L));
+            results.put(label(), result);
+
+            assertThat(result.errors()).isZero();
+            assertThat(result.completed() + result.rejected()).isEqualTo(REQUESTS);
+        }
+
+        private List<URI> uris(List<String> ids, int count, long seed) {
+            Random random = new Random(seed);
+            List<URI> uris = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                if (i % 5 == 0) {
+                    uris.add(URI.create(baseUrl() + "/v1/businesses/" + ids.get(random.nextInt(ids.size()))));
+                } else {
+                    double latitude = TestDataFactory.GANGNAM_LAT + (random.nextDouble() * 2 - 1) * SPREAD_DEGREES;
+                    double longitude = TestDataFactory.GANGNAM_LNG + (random.nextDouble() * 2 - 1) * SPREAD_DEGREES;
+                    uris.add(URI.create(baseUrl() + "/v1/search/nearby?latitude=" + latitude
+                            + "&longitude=" + longitude + "&radius=" + (500 + random.nextInt(5) * 500)));
+                }
+            }
+            return uris;
+        }
+
+        private String baseUrl() {
+            return "http://localhost:" + port;
+        }
+
+        private Result run(List<URI> uris) throws Exception {
+            int count = uris.size();
+            long[] latencies = new long[count];
+            AtomicInteger rejected = new AtomicInteger();
+            AtomicInteger errors = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>(count);
+
+            long start = System.nanoTime();
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < count; i++) {
+                    int n = i;
+                    futures.add(clients.submit(() -> {
+                        long sentAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(
+                                    HttpRequest.newBuilder(uris.get(n)).GET().build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 503) {
+                                rejected.incrementAndGet();
+                            } else if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        } finally {
+                            latencies[n] = (System.nanoTime() - sentAt) / 1_000_000;
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            Arrays.sort(latencies);
+            return new Result(elapsedMs, latencies[count / 2], latencies[(int) Math.ceil(0.95 * count) - 1],
+                    count - rejected.get() - errors.get(), rejected.get(), errors.get());
+        }
+    }
+
+    private record Result(long elapsedMs, long p50Ms, long p95Ms, int completed, int rejected, int errors) {
+    }
+}
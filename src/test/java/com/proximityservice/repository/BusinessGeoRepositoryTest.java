@@ -1,7 +1,17 @@
 package com.proximityservice.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
-
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.proximityservice.config.RedisReadRouter;
+import com.proximityservice.geo.GeoEntry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +19,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Point;
 import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.testcontainers.containers.GenericContainer;
@@ -36,9 +47,12 @@ class BusinessGeoRepositoryTest {
     @Autowired
     private StringRedisTemplate redisTemplate;
 
+    @Autowired
+    private RedisReadRouter readRouter;
+
     @BeforeEach
     void setUp() {
-        redisTemplate.delete("geo:businesses");
+        geoRepository.deleteAll();
     }
 
     @Test
@@ -91,4 +105,101 @@ class BusinessGeoRepositoryTest {
         assertThat(results).isNotNull();
         assertThat(results.getContent()).isEmpty();
     }
+
+    @Test
+    void shouldRunPipelinedSearchesInRequestOrder() {
+        geoRepository.add("biz-1", 127.0396, 37.5012, "cafe");
+        geoRepository.add("biz-2", 126.9236, 37.5563, "bar");
+
+        List<GeoResults<GeoLocation<String>>> results = geoRepository.searchNearby(List.of(
+                new BusinessGeoRepository.NearbySearch(null, 127.0396, 37.5012, 1000, 20, null, null),
+                new BusinessGeoRepository.NearbySearch("bar", 126.9236, 37.5563, 1000, 20, null, null),
+                new BusinessGeoRepository.NearbySearch("bar", 127.0396, 37.5012, 1000, 20, null, null)));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).getContent()).extracting(r -> r.getContent().getName()).containsExactly("biz-1");
+        assertThat(results.get(1).getContent()).extracting(r -> r.getContent().getName()).containsExactly("biz-2");
+        assertThat(results.get(2).getContent()).isEmpty();
+    }
+
+    @Test
+    void shouldPageThroughTiesWithoutSkippingOrRepeating() {
+        for (String id : List.of("e", "c", "a", "d", "b")) {
+            geoRepository.add(id, 127.0396, 37.5012);
+        }
+        geoRepository.add("far-1", 127.0400, 37.5012);
+        geoRepository.add("far-2", 127.0410, 37.5012);
+
+        // 같은 거리의 멤버가 페이지 경계에 걸려도 (거리, id) 순으로 빠짐없이 한 번씩만 나온다
+        List<String> visited = new ArrayList<>();
+        Double afterDistance = null;
+        String afterId = null;
+        while (true) {
+            List<GeoResult<GeoLocation<String>>> page = geoRepository.searchNearby(
+                    null, 127.0396, 37.5012, 1000, 2, afterDistance, afterId).getContent();
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(result -> visited.add(result.getContent().getName()));
+            GeoResult<GeoLocation<String>> last = page.get(page.size() - 1);
+            afterDistance = last.getDistance().getValue();
+            afterId = last.getContent().getName();
+        }
+
+        assertThat(visited).containsExactly("a", "b", "c", "d", "e", "far-1", "far-2");
+    }
+
+    @Test
+    void shouldRejectCursorBeyondMaximumSearchDepth() {
+        List<GeoEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 12_000; i++) {
+            entries.add(new GeoEntry("biz-%05d".formatted(i), 127.0 + i * 0.00001, 37.5, "cafe"));
+        }
+        geoRepository.addAll(entries);
+        List<BusinessGeoRepository.NearbySearch> deep = List.of(
+                new BusinessGeoRepository.NearbySearch(null, 127.0, 37.5, 20_000, 10, 9_500.0, "biz-"));
+
+        // 커서 앞에 최대 탐색 깊이보다 많은 멤버가 있으면 COUNT를 끝없이 늘리지 않고 거부한다
+        assertThatThrownBy(() -> geoRepository.searchNearby(null, 127.0, 37.5, 20_000, 10, 9_500.0, "biz-"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maximum search depth");
+        assertThatThrownBy(() -> geoRepository.searchNearby(deep))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(geoRepository.searchNearby(null, 127.0, 37.5, 20_000, 10, 100.0, "biz-").getContent())
+                .hasSize(10)
+                .allMatch(result -> result.getDistance().getValue() > 100.0);
+    }
+
+    @Test
+    void shouldAddLocateAndRemoveManyMembersInBatches() {
+        BusinessGeoRepository batched = new BusinessGeoRepository(redisTemplate, readRouter, 2);
+        batched.addAll(List.of(
+                new GeoEntry("biz-1", 127.0396, 37.5012, "cafe"),
+                new GeoEntry("biz-2", 127.0380, 37.5025, "bar"),
+                new GeoEntry("biz-3", 126.9236, 37.5563, "bar")));
+
+        assertThat(members(null)).containsExactlyInAnyOrder("biz-1", "biz-2", "biz-3");
+        assertThat(members("bar")).containsExactlyInAnyOrder("biz-2", "biz-3");
+
+        Map<String, Point> positions = batched.positions(List.of("biz-1", "biz-3", "missing"));
+        assertThat(positions).containsOnlyKeys("biz-1", "biz-3");
+        assertThat(positions.get("biz-3").getX()).isCloseTo(126.9236, within(1e-4));
+        assertThat(positions.get("biz-3").getY()).isCloseTo(37.5563, within(1e-4));
+
+        batched.removeAll(List.of("biz-1", "biz-2"));
+
+        assertThat(members(null)).containsExactly("biz-3");
+        assertThat(members("cafe")).isEmpty();
+        assertThat(members("bar")).containsExactly("biz-3");
+    }
+
+    private Set<String> members(String category) {
+        Set<String> members = new HashSet<>();
+        geoRepository.scanMembers(100, batch -> {
+            if (Objects.equals(batch.category(), category)) {
+                members.addAll(batch.ids());
+            }
+        });
+        return members;
+    }
 }
@@ -0,0 +1,236 @@
+package com.proximityservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.proximityservice.config.RedisReadRouter;
+import com.proximityservice.dto.BusinessSearchProjection;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.internal.HostAndPort;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DnsResolvers;
+import io.lettuce.core.resource.MappingSocketAddressResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+class RedisClusterCompatibilityTest {
+
+    // 컨테이너 하나에 마스터 3개를 띄우고 슬롯을 나눠 갖게 한다
+    @Container
+    static GenericContainer<?> cluster = new GenericContainer<>("redis:7")
+            .withExposedPorts(7000, 7001, 7002)
+            .withCommand("sh", "-c", """
+                    for port in 7000 7001 7002; do
+                      redis-server --port $port --cluster-enabled yes --cluster-config-file nodes-$port.conf \
+                        --daemonize yes
+                    done
+                    sleep 1
+                    redis-cli --cluster create 127.0.0.1:7000 127.0.0.1:7001 127.0.0.1:7002 \
+                      --cluster-replicas 0 --cluster-yes
+                    tail -f /dev/null
+                    """)
+            .waitingFor(Wait.forLogMessage(".*All 16384 slots covered.*", 1));
+
+    private ClientResources clientResources;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private BusinessGeoRepository geoRepository;
+    private ShardedBusinessGeoRepository shardedGeoRepository;
+    private BusinessProjectionRepository projectionRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 노드들이 알리는 127.0.0.1:700x 주소를 호스트에 매핑된 포트로 바꿔 연결한다
+        clientResources = ClientResources.builder()
+                .socketAddressResolver(MappingSocketAddressResolver.create(DnsResolvers.UNRESOLVED, hostAndPort ->
+                        "127.0.0.1".equals(hostAndPort.getHostText())
+                                ? HostAndPort.of(cluster.getHost(), cluster.getMappedPort(hostAndPort.getPort()))
+                                : hostAndPort))
+                .build();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisClusterConfiguration(List.of(cluster.getHost() + ":" + cluster.getMappedPort(7000))),
+                LettuceClientConfiguration.builder().clientResources(clientResources).build());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        RedisReadRouter readRouter = new RedisReadRouter(
+                redisTemplate, new SimpleMeterRegistry(), "", 6379, Duration.ofSeconds(2));
+        geoRepository = new BusinessGeoRepository(redisTemplate, readRouter);
+        shardedGeoRepository = new ShardedBusinessGeoRepository(redisTemplate, readRouter);
+        projectionRepository = new BusinessProjectionRepository(redisTemplate);
+
+        geoRepository.deleteAll();
+        shardedGeoRepository.deleteAll();
+        projectionRepository.scanIds(500, projectionRepository::deleteAll);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+        clientResources.shutdown();
+    }
+
+    @Test
+    void geoKeysShouldShareOneSlot() {
+        int slot = SlotHash.getSlot("{geo:businesses}");
+
+        assertThat(SlotHash.getSlot("{geo:businesses}:cafe")).isEqualTo(slot);
+        assertThat(SlotHash.getSlot("{geo:businesses}:bar")).isEqualTo(slot);
+        assertThat(SlotHash.getSlot("geo:businesses:{wydm6}:cafe")).isEqualTo(SlotHash.getSlot("wydm6"));
+    }
+
+    @Test
+    void geoRepositoryShouldWorkAgainstCluster() {
+        geoRepository.add("biz-1", 127.0396, 37.5012, "cafe");
+        geoRepository.add("biz-2", 127.0380, 37.5025, "bar");
+
+        List<String> nearest = geoRepository.searchNearby("cafe", 127.0396, 37.5012, 1000, 10, null, null)
+                .getContent().stream()
+                .map(result -> result.getContent().getName())
+                .toList();
+        List<BusinessGeoRepository.NearbySearch> searches = List.of(
+                new BusinessGeoRepository.NearbySearch(null, 127.0396, 37.5012, 1000, 10, null, null),
+                new BusinessGeoRepository.NearbySearch("bar", 127.0396, 37.5012, 1000, 10, null, null));
+
+        assertThat(nearest).containsExactly("biz-1");
+        assertThat(geoRepository.searchNearby(searches))
+                .extracting(results -> results.getContent().stream()
+                        .map(GeoResult::getContent)
+                        .map(GeoLocation::getName)
+                        .toList())
+                .containsExactly(List.of("biz-1", "biz-2"), List.of("biz-2"));
+
+        geoRepository.remove("biz-1");
+        assertThat(members(null)).containsExactly("biz-2");
+        assertThat(members("cafe")).isEmpty();
+    }
+
+    @Test
+    void shardedRepositoryShouldSpreadCellsAcrossNodes() {
+        List<String> cells = List.of("wydm6", "wydm7", "wydmd", "wydme", "wydjv", "wydjy", "wydq4", "wydq5");
+        for (int i = 0; i < cells.size(); i++) {
+            shardedGeoRepository.add("biz-" + i, 127.0 + i * 0.01, 37.5, "cafe", cells.get(i));
+        }
+
+        // 셀 키가 여러 마스터에 흩어져 있어도 노드별 SCAN으로 모두 찾아야 한다
+        assertThat(nodesOwning(cells.stream().map(cell -> "geo:businesses:{" + cell + "}").toList()))
+                .hasSizeGreaterThan(1);
+        assertThat(shards()).containsExactlyInAnyOrderElementsOf(cells);
+        assertThat(shardedMembers("cafe")).hasSize(cells.size());
+
+        shardedGeoRepository.deleteAll();
+        assertThat(shards()).isEmpty();
+    }
+
+    @Test
+    void shardedSearchShouldRecoverWhenNodesLoseTheScriptCache() throws Exception {
+        List<String> cells = List.of("wydm6", "wydm7", "wydmd", "wydme", "wydjv", "wydjy", "wydq4", "wydq5");
+        for (int i = 0; i < cells.size(); i++) {
+            shardedGeoRepository.add("biz-" + i, 127.0396, 37.5012, "cafe", cells.get(i));
+        }
+        List<ShardedBusinessGeoRepository.ShardSearch> searches = cells.stream()
+                .map(cell -> new ShardedBusinessGeoRepository.ShardSearch(cell,
+                        new BusinessGeoRepository.NearbySearch(null, 127.0396, 37.5012, 1000, 10, null, null)))
+                .toList();
+        assertThat(shardedGeoRepository.searchNearby(searches)).allMatch(results -> results.getContent().size() == 1);
+
+        // 재시작이나 페일오버로 모든 마스터의 스크립트 캐시가 비어도 EVAL로 다시 보내 검색이 성공해야 한다
+        for (int port : List.of(7000, 7001, 7002)) {
+            cluster.execInContainer("redis-cli", "-p", Integer.toString(port), "SCRIPT", "FLUSH");
+        }
+
+        assertThat(nodesOwning(cells.stream().map(cell -> "geo:businesses:{" + cell + "}").toList()))
+                .hasSizeGreaterThan(1);
+        assertThat(shardedGeoRepository.searchNearby(searches))
+                .extracting(results -> results.getContent().get(0).getContent().getName())
+                .containsExactlyElementsOf(IntStream.range(0, cells.size()).mapToObj(i -> "biz-" + i).toList());
+    }
+
+    @Test
+    void projectionRepositoryShouldReadAndScanAcrossNodes() {
+        List<BusinessSearchProjection> projections = IntStream.range(0, 100)
+                .mapToObj(i -> new BusinessSearchProjection(
+                        "biz-" + i, "업체 " + i, "서울 강남구", 37.5, 127.0, "cafe"))
+                .toList();
+
+        projectionRepository.saveAll(projections);
+        List<String> ids = projections.stream().map(BusinessSearchProjection::id).toList();
+
+        assertThat(nodesOwning(ids.stream().map(BusinessProjectionRepository::key).toList())).hasSize(3);
+        assertThat(projectionRepository.findAll(ids)).hasSize(100);
+        assertThat(projectionIds()).containsExactlyInAnyOrderElementsOf(ids);
+
+        // 읽기 복구는 이미 있는 키를 덮어쓰지 않고 빈 키만 채운다
+        BusinessSearchProjection stale = new BusinessSearchProjection("biz-0", "옛 이름", "서울 강남구", 37.5, 127.0, "cafe");
+        BusinessSearchProjection absent = new BusinessSearchProjection("biz-new", "새 업체", "서울 강남구", 37.5, 127.0, "bar");
+        projectionRepository.saveAllIfAbsent(List.of(stale, absent));
+
+        assertThat(projectionRepository.findAll(List.of("biz-0", "biz-new")))
+                .containsEntry("biz-0", projections.get(0))
+                .containsEntry("biz-new", absent);
+    }
+
+    private Set<String> nodesOwning(List<String> keys) {
+        try (RedisClusterConnection connection = connectionFactory.getClusterConnection()) {
+            Set<String> nodes = new HashSet<>();
+            for (String key : keys) {
+                nodes.add(connection.clusterGetNodeForKey(key.getBytes(StandardCharsets.UTF_8)).getId());
+            }
+            return nodes;
+        }
+    }
+
+    private Set<String> members(String category) {
+        Set<String> members = new HashSet<>();
+        geoRepository.scanMembers(100, batch -> {
+            if (Objects.equals(batch.category(), category)) {
+                members.addAll(batch.ids());
+            }
+        });
+        return members;
+    }
+
+    private Set<String> shards() {
+        Set<String> shards = new HashSet<>();
+        shardedGeoRepository.scanMembers(100, batch -> shards.add(batch.shard()));
+        return shards;
+    }
+
+    private Set<String> shardedMembers(String category) {
+        Set<String> members = new HashSet<>();
+        shardedGeoRepository.scanMembers(100, batch -> {
+            if (Objects.equals(batch.category(), category)) {
+                members.addAll(batch.ids());
+            }
+        });
+        return members;
+    }
+
+    private Set<String> projectionIds() {
+        Set<String> ids = new HashSet<>();
+        projectionRepository.scanIds(100, ids::addAll);
+        return ids;
+    }
+}
@@ -0,0 +1,181 @@
+package com.proximityservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.proximityservice.config.CircuitBreakers;
+import com.proximityservice.domain.Business;
+import com.proximityservice.dto.BusinessSearchProjection;
+import com.proximityservice.repository.BusinessProjectionRepository;
+import com.proximityservice.repository.BusinessRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class BusinessProjectionCacheTest {
+
+    @Mock
+    private BusinessRepository businessRepository;
+
+    @Mock
+    private BusinessProjectionRepository projectionRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BusinessProjectionCache projectionCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        projectionCache = new BusinessProjectionCache(
+                businessRepository, projectionRepository,
+                new CircuitBreakers(meterRegistry, CircuitBreakers.Settings.DEFAULTS),
+                redisTemplate, meterRegistry, 1_000_000, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void getAll_shouldLoadOnlyMissingIds() {
+        Business b1 = new Business("식당A", "주소A", 37.5, 127.0, "cafe", null, null);
+        Business b2 = new Business("식당B", "주소B", 37.6, 127.1, "bar", null, null);
+        given(businessRepository.findSearchProjectionsByIdIn(List.of(b1.getId())))
+                .willReturn(List.of(BusinessSearchProjection.from(b1)));
+        given(businessRepository.findSearchProjectionsByIdIn(List.of(b2.getId())))
+                .willReturn(List.of(BusinessSearchProjection.from(b2)));
+
+        projectionCache.getAll(List.of(b1.getId()));
+        Map<String, BusinessSearchProjection> result = projectionCache.getAll(List.of(b1.getId(), b2.getId()));
+
+        assertThat(result).containsOnlyKeys(b1.getId(), b2.getId());
+        assertThat(result.get(b2.getId()).name()).isEqualTo("식당B");
+        then(businessRepository).should(times(1)).findSearchProjectionsByIdIn(List.of(b1.getId()));
+        then(businessRepository).should(times(1)).findSearchProjectionsByIdIn(List.of(b2.getId()));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "businessProjection").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void getAll_shouldPreferRedisProjectionOverDatabase() {
+        BusinessSearchProjection projection = new BusinessSearchProjection(
+                "biz-1", "식당", "주소", 37.5, 127.0, "cafe");
+        given(projectionRepository.findAll(List.of("biz-1"))).willReturn(Map.of("biz-1", projection));
+
+        Map<String, BusinessSearchProjection> result = projectionCache.getAll(List.of("biz-1"));
+
+        assertThat(result).containsEntry("biz-1", projection);
+        then(businessRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void getAll_shouldRepairRedisProjectionFromDatabase() {
+        Business business = new Business("식당", "주소", 37.5, 127.0, "cafe", null, null);
+        given(businessRepository.findSearchProjectionsByIdIn(List.of(business.getId())))
+                .willReturn(List.of(BusinessSearchProjection.from(business)));
+
+        projectionCache.getAll(List.of(business.getId()));
+
+        // 그사이 릴레이가 더 새 프로젝션을 썼을 수 있으므로 비어 있는 키에만 채운다
+        then(projectionRepository).should().saveAllIfAbsent(List.of(BusinessSearchProjection.from(business)));
+        then(projectionRepository).should(never()).saveAll(any());
+    }
+
+    @Test
+    void getAll_shouldReadDatabaseWhenRedisIsDown() {
+        Business business = new Business("식당", "주소", 37.5, 127.0, "cafe", null, null);
+        given(projectionRepository.findAll(List.of(business.getId())))
+                .willThrow(new RedisConnectionFailureException("Connection refused"));
+        given(businessRepository.findSearchProjectionsByIdIn(List.of(business.getId())))
+                .willReturn(List.of(BusinessSearchProjection.from(business)));
+
+        Map<String, BusinessSearchProjection> result = projectionCache.getAll(List.of(business.getId()));
+
+        assertThat(result).containsEntry(business.getId(), BusinessSearchProjection.from(business));
+        then(projectionRepository).should(never()).saveAllIfAbsent(any());
+    }
+
+    @Test
+    void getAll_shouldStopCallingRedisWhileBreakerIsOpen() {
+        projectionCache = new BusinessProjectionCache(
+                businessRepository, projectionRepository,
+                new CircuitBreakers(meterRegistry, new CircuitBreakers.Settings(
+                        4, 2, 50, Duration.ofSeconds(1), Duration.ofMinutes(1), 1)),
+                redisTemplate, meterRegistry, 1_000_000, Duration.ofMinutes(10));
+        given(projectionRepository.findAll(any()))
+                .willThrow(new RedisConnectionFailureException("Connection refused"));
+        given(businessRepository.findSearchProjectionsByIdIn(any())).willReturn(List.of());
+
+        projectionCache.getAll(List.of("biz-1"));
+        projectionCache.getAll(List.of("biz-2"));
+        projectionCache.getAll(List.of("biz-3"));
+
+        // 두 번 실패해 브레이커가 열린 뒤에는 Redis를 거치지 않고 바로 MySQL에서 읽는다
+        then(projectionRepository).should(times(2)).findAll(any());
+        then(businessRepository).should(times(3)).findSearchProjectionsByIdIn(any());
+    }
+
+    @Test
+    void getAll_shouldSkipIdsMissingFromDatabase() {
+        given(businessRepository.findSearchProjectionsByIdIn(List.of("orphan-id"))).willReturn(List.of());
+
+        assertThat(projectionCache.getAll(List.of("orphan-id"))).isEmpty();
+    }
+
+    @Test
+    void evict_shouldReloadOnNextRead() {
+        Business business = new Business("식당", "주소", 37.5, 127.0, "cafe", null, null);
+        given(businessRepository.findSearchProjectionsByIdIn(List.of(business.getId())))
+                .willReturn(List.of(BusinessSearchProjection.from(business)));
+
+        projectionCache.getAll(List.of(business.getId()));
+        projectionCache.evictAfterCommit(business.getId());
+        projectionCache.getAll(List.of(business.getId()));
+
+        then(businessRepository).should(times(2)).findSearchProjectionsByIdIn(List.of(business.getId()));
+    }
+
+    @Test
+    void evict_shouldBroadcastToOtherInstancesAndSkipOwnMessages() {
+        BusinessProjectionCache remote = new BusinessProjectionCache(
+                businessRepository, projectionRepository,
+                new CircuitBreakers(meterRegistry, CircuitBreakers.Settings.DEFAULTS),
+                redisTemplate, meterRegistry, 1_000_000, Duration.ofMinutes(10));
+        Business business = new Business("식당", "주소", 37.5, 127.0, "cafe", null, null);
+        given(businessRepository.findSearchProjectionsByIdIn(List.of(business.getId())))
+                .willReturn(List.of(BusinessSearchProjection.from(business)));
+        remote.getAll(List.of(business.getId()));
+
+        projectionCache.evict(business.getId());
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        then(redisTemplate).should().convertAndSend(eq(BusinessProjectionCache.EVICTION_CHANNEL), body.capture());
+        Message message = new DefaultMessage(BusinessProjectionCache.EVICTION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getValue().getBytes(StandardCharsets.UTF_8));
+        projectionCache.getAll(List.of(business.getId()));
+
+        // 다른 인스턴스의 L1 캐시도 비워져 다음 조회에서 다시 읽고, 보낸 인스턴스는 자기 메시지를 건너뛴다
+        projectionCache.onMessage(message, null);
+        remote.onMessage(message, null);
+        projectionCache.getAll(List.of(business.getId()));
+        remote.getAll(List.of(business.getId()));
+
+        then(businessRepository).should(times(3)).findSearchProjectionsByIdIn(List.of(business.getId()));
+    }
+}
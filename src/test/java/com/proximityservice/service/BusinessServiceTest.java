@@ -8,11 +8,13 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
 
+import com.proximityservice.batch.GeoOutboxRelay;
 import com.proximityservice.domain.Business;
+import com.proximityservice.domain.GeoOutboxEvent;
 import com.proximityservice.dto.BusinessCreateRequest;
+import com.proximityservice.dto.BusinessDetailResponse;
 import com.proximityservice.dto.BusinessUpdateRequest;
 import com.proximityservice.exception.BusinessNotFoundException;
-import com.proximityservice.repository.BusinessGeoRepository;
 import com.proximityservice.repository.BusinessRepository;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -28,13 +30,19 @@ class BusinessServiceTest {
     private BusinessRepository businessRepository;
 
     @Mock
-    private BusinessGeoRepository geoRepository;
+    private GeoOutboxRelay outboxRelay;
+
+    @Mock
+    private BusinessProjectionCache projectionCache;
+
+    @Mock
+    private SearchResponseCache responseCache;
 
     @InjectMocks
     private BusinessService businessService;
 
     @Test
-    void create_shouldSaveToDbAndRedis() {
+    void create_shouldSaveToDbAndPublishToOutbox() {
         var request = new BusinessCreateRequest(
                 "맛있는 식당", "서울시 강남구", 37.5012, 127.0396,
                 "korean_food", "02-1234-5678", "09:00-22:00");
@@ -45,7 +53,7 @@ class BusinessServiceTest {
         assertThat(result.getName()).isEqualTo("맛있는 식당");
         assertThat(result.getCategory()).isEqualTo("korean_food");
         then(businessRepository).should().save(any(Business.class));
-        then(geoRepository).should().add(result.getId(), 127.0396, 37.5012);
+        then(outboxRelay).should().publish(result.getId(), GeoOutboxEvent.Type.UPSERT);
     }
 
     @Test
@@ -78,7 +86,28 @@ class BusinessServiceTest {
     }
 
     @Test
-    void update_shouldNotSyncRedisWhenCoordinatesUnchanged() {
+    void getDetail_shouldReturnProjectionWithoutLoadingEntity() {
+        BusinessDetailResponse detail = new BusinessDetailResponse(
+                "biz-1", "식당", "주소", 37.5, 127.0, "cafe", "02-1234-5678", "09:00-22:00", null, null);
+        given(businessRepository.findDetailById("biz-1")).willReturn(Optional.of(detail));
+
+        BusinessDetailResponse result = businessService.getDetail("biz-1");
+
+        assertThat(result).isEqualTo(detail);
+        then(businessRepository).should(never()).findById(any());
+    }
+
+    @Test
+    void getDetail_shouldThrowWhenNotFound() {
+        given(businessRepository.findDetailById("nonexistent")).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> businessService.getDetail("nonexistent"))
+                .isInstanceOf(BusinessNotFoundException.class)
+                .hasMessageContaining("nonexistent");
+    }
+
+    @Test
+    void update_shouldNotReindexWhenCoordinatesUnchanged() {
         Business business = new Business("식당", "주소", 37.5, 127.0, "cafe", null, null);
         given(businessRepository.findById(business.getId())).willReturn(Optional.of(business));
 
@@ -89,12 +118,12 @@ class BusinessServiceTest {
 
         assertThat(result.getName()).isEqualTo("새 이름");
         assertThat(result.getPhone()).isEqualTo("02-1111-2222");
-        then(geoRepository).should(never()).remove(any());
-        then(geoRepository).should(never()).add(any(), any(double.class), any(double.class));
+        then(outboxRelay).should().publish(business.getId(), GeoOutboxEvent.Type.UPSERT);
+        then(projectionCache).should().evictAfterCommit(business.getId());
     }
 
     @Test
-    void update_shouldSyncRedisWhenCoordinatesChanged() {
+    void update_shouldReindexWhenCoordinatesChanged() {
         Business business = new Business("식당", "주소", 37.5, 127.0, "cafe", null, null);
         given(businessRepository.findById(business.getId())).willReturn(Optional.of(business));
 
@@ -103,8 +132,22 @@ class BusinessServiceTest {
 
         businessService.update(business.getId(), request);
 
-        then(geoRepository).should().remove(business.getId());
-        then(geoRepository).should().add(business.getId(), 128.0, 38.0);
+        then(outboxRelay).should().publish(business.getId(), GeoOutboxEvent.Type.REINDEX);
+        then(responseCache).should().invalidateAfterCommit(37.5, 127.0, "cafe");
+        then(responseCache).should().invalidateAfterCommit(38.0, 128.0, "cafe");
+    }
+
+    @Test
+    void update_shouldResyncGeoIndexWhenCategoryChanged() {
+        Business business = new Business("식당", "주소", 37.5, 127.0, "cafe", null, null);
+        given(businessRepository.findById(business.getId())).willReturn(Optional.of(business));
+
+        var request = new BusinessUpdateRequest(
+                "식당", "주소", 37.5, 127.0, "bar", null, null);
+
+        businessService.update(business.getId(), request);
+
+        then(outboxRelay).should().publish(business.getId(), GeoOutboxEvent.Type.REINDEX);
     }
 
     @Test
@@ -127,14 +170,16 @@ class BusinessServiceTest {
     }
 
     @Test
-    void delete_shouldRemoveFromDbAndRedis() {
+    void delete_shouldRemoveFromDbAndPublishToOutbox() {
         Business business = new Business("식당", "주소", 37.5, 127.0, "cafe", null, null);
         given(businessRepository.findById(business.getId())).willReturn(Optional.of(business));
 
         businessService.delete(business.getId());
 
         then(businessRepository).should().delete(business);
-        then(geoRepository).should().remove(business.getId());
+        then(outboxRelay).should().publish(business.getId(), GeoOutboxEvent.Type.DELETE);
+        then(projectionCache).should().evictAfterCommit(business.getId());
+        then(responseCache).should().invalidateAfterCommit(37.5, 127.0, "cafe");
     }
 
     @Test
@@ -0,0 +1,129 @@
+package com.proximityservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.proximityservice.config.CircuitBreakers;
+import com.proximityservice.dto.BusinessSearchProjection;
+import com.proximityservice.dto.BusinessSearchResult;
+import com.proximityservice.dto.NearbySearchPoint;
+import com.proximityservice.dto.NearbySearchResponse;
+import com.proximityservice.exception.CircuitOpenException;
+import com.proximityservice.geo.GeoHit;
+import com.proximityservice.geo.GeoIndex;
+import com.proximityservice.geo.GeoQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+@ExtendWith(MockitoExtension.class)
+class NearbySearchServiceDegradedModeTest {
+
+    private static final List<GeoHit> HITS = List.of(
+            new GeoHit("cached", 120.04, 37.5011, 127.0395),
+            new GeoHit("uncached", 480.0, 37.5040, 127.0400));
+
+    @Mock
+    private GeoIndex geoIndex;
+
+    @Mock
+    private GeoIndex fallbackIndex;
+
+    @Mock
+    private BusinessProjectionCache projectionCache;
+
+    @Mock
+    private SearchResponseCache responseCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NearbySearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CircuitBreakers circuitBreakers = new CircuitBreakers(meterRegistry, new CircuitBreakers.Settings(
+                2, 2, 50, Duration.ofSeconds(1), Duration.ofMinutes(1), 1));
+        searchService = new NearbySearchService(
+                geoIndex, fallbackIndex, projectionCache, responseCache, circuitBreakers, meterRegistry,
+                Duration.ZERO);
+    }
+
+    @Test
+    void searchNearby_shouldSkipRedisWhileBreakerIsOpen() {
+        given(geoIndex.search(any(GeoQuery.class))).willThrow(new QueryTimeoutException("Command timed out"));
+        given(fallbackIndex.search(any(GeoQuery.class))).willReturn(List.of());
+
+        for (int i = 0; i < 5; i++) {
+            searchService.searchNearby(37.5012, 127.0396, 1000);
+        }
+
+        // 두 번 타임아웃된 뒤로는 Redis 타임아웃을 기다리지 않고 바로 MySQL로 간다
+        then(geoIndex).should(times(2)).search(any(GeoQuery.class));
+        then(fallbackIndex).should(times(5)).search(any(GeoQuery.class));
+        assertThat(meterRegistry.get("circuit.breaker.state").tag("backend", "redis").gauge().value())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void searchNearby_shouldFailFastWhenBothBreakersAreOpen() {
+        given(geoIndex.search(any(GeoQuery.class))).willThrow(new QueryTimeoutException("Command timed out"));
+        given(fallbackIndex.search(any(GeoQuery.class)))
+                .willThrow(new CannotGetJdbcConnectionException("Connection is not available"));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> searchService.searchNearby(37.5012, 127.0396, 1000))
+                    .isInstanceOf(CannotGetJdbcConnectionException.class);
+        }
+
+        assertThatThrownBy(() -> searchService.searchNearby(37.5012, 127.0396, 1000))
+                .isInstanceOf(CircuitOpenException.class);
+        then(geoIndex).should(times(2)).search(any(GeoQuery.class));
+        then(fallbackIndex).should(times(2)).search(any(GeoQuery.class));
+    }
+
+    @Test
+    void searchNearby_shouldAnswerWithLocationsOnlyWhenProjectionsAreUnavailable() {
+        BusinessSearchProjection cached = new BusinessSearchProjection(
+                "cached", "캐시된 식당", "서울시 강남구", 37.5011, 127.0395, "korean_food");
+        given(geoIndex.search(any(GeoQuery.class))).willReturn(HITS);
+        given(projectionCache.getAll(anyCollection())).willThrow(new CircuitOpenException("mysql"));
+        given(projectionCache.getAllPresent(anyCollection())).willReturn(Map.of("cached", cached));
+
+        NearbySearchResponse response = searchService.searchNearby(37.5012, 127.0396, 1000);
+
+        assertThat(response.message()).isEqualTo(NearbySearchService.LOCATION_ONLY_MESSAGE);
+        assertThat(response.businesses()).containsExactly(
+                cached.toResult(120.0),
+                new BusinessSearchResult("uncached", null, null, 37.5040, 127.0400, 480.0, null));
+        assertThat(meterRegistry.get("search.degraded").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void searchBatch_shouldAnswerWithLocationsOnlyWhenProjectionsAreUnavailable() {
+        given(geoIndex.searchAll(any())).willReturn(List.of(HITS));
+        given(projectionCache.getAll(anyCollection()))
+                .willThrow(new CannotGetJdbcConnectionException("Connection is not available"));
+        given(projectionCache.getAllPresent(anyCollection())).willReturn(Map.of());
+
+        NearbySearchResponse response = searchService.searchBatch(List.of(
+                new NearbySearchPoint(37.5012, 127.0396, 1000, 20, null)))
+                .results().get(0);
+
+        assertThat(response.message()).isEqualTo(NearbySearchService.LOCATION_ONLY_MESSAGE);
+        assertThat(response.businesses()).extracting(BusinessSearchResult::name).containsOnlyNulls();
+        assertThat(response.businesses()).extracting(BusinessSearchResult::id).containsExactly("cached", "uncached");
+    }
+}
@@ -46,7 +46,7 @@ class NearbySearchServiceTest {
     @BeforeEach
     void setUp() {
         businessRepository.deleteAll();
-        redisTemplate.delete("geo:businesses");
+        redisTemplate.delete("{geo:businesses}");
 
         Business b1 = new Business("맛있는 식당", "서울시 강남구 테헤란로 123",
                 37.5012, 127.0396, "korean_food", "02-1234-5678", "11:00-22:00");
@@ -0,0 +1,118 @@
+package com.proximityservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+import com.proximityservice.config.CircuitBreakers;
+import com.proximityservice.dto.BusinessSearchProjection;
+import com.proximityservice.dto.BusinessSearchResult;
+import com.proximityservice.dto.NearbySearchResponse;
+import com.proximityservice.geo.GeoHit;
+import com.proximityservice.geo.GeoIndex;
+import com.proximityservice.geo.GeoQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class NearestSearchServiceTest {
+
+    @Mock
+    private GeoIndex geoIndex;
+
+    @Mock
+    private GeoIndex fallbackIndex;
+
+    @Mock
+    private BusinessProjectionCache projectionCache;
+
+    @Mock
+    private SearchResponseCache responseCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NearestSearchService nearestSearchService;
+    private final List<GeoQuery> queries = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        NearbySearchService searchService = new NearbySearchService(
+                geoIndex, fallbackIndex, projectionCache, responseCache,
+                new CircuitBreakers(meterRegistry, CircuitBreakers.Settings.DEFAULTS), meterRegistry, Duration.ZERO);
+        nearestSearchService = new NearestSearchService(searchService, meterRegistry, 20000, 100);
+    }
+
+    @Test
+    void searchNearest_shouldExpandRadiusUntilKFound() {
+        stubIndex(new GeoHit("a", 100.0, 37.5, 127.0),
+                new GeoHit("b", 900.0, 37.5, 127.0),
+                new GeoHit("c", 3000.0, 37.5, 127.0));
+
+        NearbySearchResponse response = nearestSearchService.searchNearest(37.5, 127.0, 3, List.of());
+
+        assertThat(response.businesses()).extracting(BusinessSearchResult::id).containsExactly("a", "b", "c");
+        assertThat(queries).hasSizeGreaterThan(1);
+        assertThat(queries).extracting(GeoQuery::radiusMeters).isSorted();
+        assertThat(meterRegistry.get("search.knn.expansions").summary().max())
+                .isEqualTo(queries.size() - 1);
+        assertThat(meterRegistry.get("search.knn.exhausted").counter().count()).isZero();
+    }
+
+    @Test
+    void searchNearest_shouldStopAtMaxRadius() {
+        stubIndex(new GeoHit("a", 100.0, 37.5, 127.0));
+
+        NearbySearchResponse response = nearestSearchService.searchNearest(37.5, 127.0, 5, List.of());
+
+        assertThat(response.total()).isEqualTo(1);
+        assertThat(queries.get(queries.size() - 1).radiusMeters()).isEqualTo(20000.0);
+        assertThat(meterRegistry.get("search.knn.exhausted").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void searchNearest_shouldFallBackToMySqlWhenRedisIsDown() {
+        given(geoIndex.search(any(GeoQuery.class)))
+                .willThrow(new RedisConnectionFailureException("Connection refused"));
+        stubIndex(fallbackIndex, new GeoHit("a", 100.0, 37.5, 127.0));
+
+        NearbySearchResponse response = nearestSearchService.searchNearest(37.5, 127.0, 1, List.of());
+
+        // Redis 장애 시 kNN 검색도 일반 검색과 같은 MySQL 폴백 경로를 타야 한다
+        assertThat(response.businesses()).extracting(BusinessSearchResult::id).containsExactly("a");
+        assertThat(meterRegistry.get("search.fallback").counter().count()).isEqualTo(queries.size());
+    }
+
+    private void stubIndex(GeoHit... all) {
+        stubIndex(geoIndex, all);
+    }
+
+    private void stubIndex(GeoIndex index, GeoHit... all) {
+        given(index.search(any(GeoQuery.class))).willAnswer(invocation -> {
+            GeoQuery query = invocation.getArgument(0);
+            queries.add(query);
+            return List.of(all).stream()
+                    .filter(hit -> hit.distanceMeters() <= query.radiusMeters())
+                    .limit(query.limit())
+                    .toList();
+        });
+        given(projectionCache.getAll(anyCollection())).willAnswer(invocation -> {
+            Map<String, BusinessSearchProjection> projections = new HashMap<>();
+            for (GeoHit hit : all) {
+                projections.put(hit.id(), new BusinessSearchProjection(
+                        hit.id(), "업체 " + hit.id(), "주소", hit.latitude(), hit.longitude(), "cafe"));
+            }
+            return projections;
+        });
+    }
+}
@@ -0,0 +1,166 @@
+package com.proximityservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.proximityservice.config.CircuitBreakers;
+import com.proximityservice.dto.BusinessSearchProjection;
+import com.proximityservice.dto.BusinessSearchResult;
+import com.proximityservice.dto.NearbySearchResponse;
+import com.proximityservice.exception.CircuitOpenException;
+import com.proximityservice.geo.GeoHit;
+import com.proximityservice.geo.GeoIndex;
+import com.proximityservice.geo.GeoQuery;
+import com.proximityservice.geo.RedisGeoIndex;
+import com.proximityservice.repository.BusinessGeoRepository;
+import com.proximityservice.repository.ReactiveBusinessGeoRepository;
+import com.proximityservice.repository.ReactiveBusinessProjectionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.domain.geo.Metrics;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveNearbySearchServiceTest {
+
+    @Mock
+    private RedisGeoIndex geoIndex;
+
+    @Mock
+    private ReactiveBusinessGeoRepository geoRepository;
+
+    @Mock
+    private ReactiveBusinessProjectionRepository projectionRepository;
+
+    @Mock
+    private BusinessProjectionCache projectionCache;
+
+    @Mock
+    private GeoIndex fallbackIndex;
+
+    @Mock
+    private SearchResponseCache responseCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReactiveNearbySearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CircuitBreakers circuitBreakers = new CircuitBreakers(meterRegistry,
+                new CircuitBreakers.Settings(4, 2, 50, Duration.ofSeconds(1), Duration.ofMinutes(1), 1));
+        NearbySearchService blockingService = new NearbySearchService(
+                geoIndex, fallbackIndex, projectionCache, responseCache, circuitBreakers, meterRegistry, Duration.ZERO);
+        searchService = new ReactiveNearbySearchService(
+                geoIndex, geoRepository, projectionRepository, projectionCache, blockingService, circuitBreakers);
+        given(projectionCache.getAllPresent(anyCollection())).willReturn(Map.of());
+    }
+
+    @Test
+    void searchNearby_shouldMergeCategoriesByDistanceAndReturnCursor() {
+        given(geoRepository.searchNearby(any(BusinessGeoRepository.NearbySearch.class))).willAnswer(invocation -> {
+            BusinessGeoRepository.NearbySearch search = invocation.getArgument(0);
+            return "cafe".equals(search.category())
+                    ? Flux.just(geoResult("c1", 100.0), geoResult("c2", 300.0))
+                    : Flux.just(geoResult("k1", 200.0), geoResult("k2", 400.0));
+        });
+        given(projectionRepository.find(anyString()))
+                .willAnswer(invocation -> Mono.just(projection(invocation.getArgument(0))));
+
+        NearbySearchResponse response = searchService
+                .searchNearby(37.5, 127.0, 1000, 3, List.of("cafe", "korean_food"), null)
+                .block();
+
+        assertThat(response.businesses()).extracting(BusinessSearchResult::id).containsExactly("c1", "k1", "c2");
+        assertThat(response.nextCursor()).isNotNull();
+    }
+
+    @Test
+    void hydrate_shouldFallBackToBlockingCacheWhenRedisProjectionMissing() {
+        given(geoRepository.searchNearby(any(BusinessGeoRepository.NearbySearch.class)))
+                .willReturn(Flux.just(geoResult("a", 100.0), geoResult("b", 200.0)));
+        given(projectionRepository.find("a")).willReturn(Mono.just(projection("a")));
+        given(projectionRepository.find("b")).willReturn(Mono.empty());
+        given(projectionCache.getAll(List.of("b"))).willReturn(Map.of("b", projection("b")));
+
+        NearbySearchService.SearchPage page = searchService
+                .findPage(37.5, 127.0, 1000, 20, List.of(), null)
+                .block();
+
+        // Redis 프로젝션이 없는 업체는 MySQL 복구 경로를 거쳐도 거리 순서를 유지해야 한다
+        StepVerifier.create(searchService.hydrate(page).map(BusinessSearchResult::id))
+                .expectNext("a", "b")
+                .verifyComplete();
+        assertThat(page.nextCursor()).isNull();
+        verify(projectionCache, never()).getAll(List.of("a"));
+    }
+
+    @Test
+    void searchNearby_shouldFallBackToMySqlAndStopCallingRedisOnceBreakerOpens() {
+        given(geoRepository.searchNearby(any(BusinessGeoRepository.NearbySearch.class)))
+                .willReturn(Flux.error(new RedisConnectionFailureException("Connection refused")));
+        given(fallbackIndex.search(any(GeoQuery.class)))
+                .willReturn(List.of(new GeoHit("a", 100.0, 37.5, 127.0)));
+
+        given(projectionRepository.find("a")).willReturn(Mono.just(projection("a")));
+
+        for (int i = 0; i < 3; i++) {
+            NearbySearchResponse response = searchService
+                    .searchNearby(37.5, 127.0, 1000, 20, List.of(), null)
+                    .block();
+            assertThat(response.businesses()).extracting(BusinessSearchResult::id).containsExactly("a");
+        }
+
+        // 두 번 실패해 브레이커가 열린 뒤에는 Redis를 부르지 않고 바로 MySQL 폴백으로 간다
+        verify(geoRepository, times(2)).searchNearby(any(BusinessGeoRepository.NearbySearch.class));
+        assertThat(meterRegistry.get("search.fallback").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void searchNearby_shouldAnswerWithLocationsOnlyWhenProjectionsAreUnavailable() {
+        given(geoRepository.searchNearby(any(BusinessGeoRepository.NearbySearch.class)))
+                .willReturn(Flux.just(geoResult("a", 100.04), geoResult("b", 200.0)));
+        given(projectionRepository.find("a")).willReturn(Mono.just(projection("a")));
+        given(projectionRepository.find("b")).willReturn(Mono.empty());
+        given(projectionCache.getAll(List.of("b"))).willThrow(new CircuitOpenException("mysql"));
+
+        NearbySearchResponse response = searchService
+                .searchNearby(37.5, 127.0, 1000, 20, List.of(), null)
+                .block();
+
+        // 프로젝션을 못 불러온 업체는 빠지지 않고 위치와 거리만 담겨 거리 순서를 유지한다
+        assertThat(response.message()).isEqualTo(NearbySearchService.LOCATION_ONLY_MESSAGE);
+        assertThat(response.businesses()).containsExactly(
+                projection("a").toResult(100.0),
+                new BusinessSearchResult("b", null, null, 37.5, 127.0, 200.0, null));
+        assertThat(meterRegistry.get("search.degraded").counter().count()).isEqualTo(1.0);
+    }
+
+    private static GeoResult<GeoLocation<String>> geoResult(String id, double distance) {
+        return new GeoResult<>(new GeoLocation<>(id, new Point(127.0, 37.5)), new Distance(distance, Metrics.METERS));
+    }
+
+    private static BusinessSearchProjection projection(String id) {
+        return new BusinessSearchProjection(id, "업체 " + id, "주소", 37.5, 127.0, "cafe");
+    }
+}
@@ -0,0 +1,233 @@
+package com.proximityservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.proximityservice.config.CircuitBreakers;
+import com.proximityservice.dto.BusinessSearchProjection;
+import com.proximityservice.exception.CircuitOpenException;
+import com.proximityservice.geo.GeoHit;
+import com.proximityservice.geo.GeoIndex;
+import com.proximityservice.geo.GeoQuery;
+import com.proximityservice.support.TestDataFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SearchResponseCacheTest {
+
+    private static final BusinessSearchProjection NORTH =
+            new BusinessSearchProjection("north", "북쪽 식당", "주소", 37.5030, 127.0396, "cafe");
+    private static final BusinessSearchProjection SOUTH =
+            new BusinessSearchProjection("south", "남쪽 식당", "주소", 37.4995, 127.0396, "cafe");
+
+    @Mock
+    private GeoIndex geoIndex;
+
+    @Mock
+    private BusinessProjectionCache projectionCache;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void find_shouldServeNearbyPointsInSameCellFromOneLoad() {
+        SearchResponseCache cache = newCache(true, 200);
+        stubCandidates(new GeoHit("north", 180.0, 37.5030, 127.0396), new GeoHit("south", 200.0, 37.4995, 127.0396));
+
+        Optional<SearchResponseCache.CachedPage> nearNorth =
+                cache.find(37.5014, 127.0398, 1000, 10, List.of(), null);
+        Optional<SearchResponseCache.CachedPage> nearSouth =
+                cache.find(37.5010, 127.0394, 1000, 10, List.of(), null);
+
+        // 같은 셀이라 한 번만 로드하고, 실제 좌표 기준으로 다시 정렬
+        assertThat(nearNorth).isPresent();
+        assertThat(nearSouth).isPresent();
+        assertThat(nearNorth.get().hits()).extracting(GeoHit::id).containsExactly("north", "south");
+        assertThat(nearSouth.get().hits()).extracting(GeoHit::id).containsExactly("south", "north");
+        then(geoIndex).should(times(1)).search(any(GeoQuery.class));
+        assertThat(meterRegistry.get("search.response.cache.requests").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void invalidate_shouldDropOnlyEntriesCoveringChangedPoint() {
+        SearchResponseCache cache = newCache(true, 200);
+        stubCandidates(new GeoHit("north", 180.0, 37.5030, 127.0396));
+
+        cache.find(37.5012, 127.0396, 1000, 10, List.of(), null);
+        cache.invalidate(TestDataFactory.HONGDAE_LAT, TestDataFactory.HONGDAE_LNG, "cafe");
+        cache.find(37.5012, 127.0396, 1000, 10, List.of(), null);
+        then(geoIndex).should(times(1)).search(any(GeoQuery.class));
+
+        cache.invalidate(37.5030, 127.0396, "cafe");
+        cache.find(37.5012, 127.0396, 1000, 10, List.of(), null);
+        then(geoIndex).should(times(2)).search(any(GeoQuery.class));
+        assertThat(meterRegistry.get("search.response.cache.invalidations").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void find_shouldNotKeepCandidatesLoadedBeforeConcurrentWrite() throws Exception {
+        SearchResponseCache cache = newCache(true, 200);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(geoIndex.search(any(GeoQuery.class))).willAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return List.of(new GeoHit("north", 180.0, 37.5030, 127.0396));
+        });
+        given(projectionCache.getAll(anyCollection())).willReturn(Map.of("north", NORTH));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Optional<SearchResponseCache.CachedPage>> first =
+                    executor.submit(() -> cache.find(37.5012, 127.0396, 1000, 10, List.of(), null));
+            loading.await();
+            // 후보를 읽는 도중에 그 셀을 덮는 쓰기가 들어오면, 끝난 로드가 옛 목록을 캐시에 되살리지 못한다
+            cache.invalidate(37.5030, 127.0396, "cafe");
+            release.countDown();
+            assertThat(first.get()).isPresent();
+        }
+
+        cache.find(37.5012, 127.0396, 1000, 10, List.of(), null);
+        then(geoIndex).should(times(2)).search(any(GeoQuery.class));
+    }
+
+    @Test
+    void invalidate_shouldBroadcastToOtherInstancesAndSkipOwnMessages() {
+        SearchResponseCache local = newCache(true, 200);
+        SearchResponseCache remote = newCache(true, 200);
+        stubCandidates(new GeoHit("north", 180.0, 37.5030, 127.0396));
+        local.find(37.5012, 127.0396, 1000, 10, List.of(), null);
+
+        local.invalidate(37.5030, 127.0396, "cafe");
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        then(redisTemplate).should().convertAndSend(eq(SearchResponseCache.INVALIDATION_CHANNEL), body.capture());
+        Message message = new DefaultMessage(SearchResponseCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getValue().getBytes(StandardCharsets.UTF_8));
+        local.find(37.5012, 127.0396, 1000, 10, List.of(), null);
+        remote.find(37.5012, 127.0396, 1000, 10, List.of(), null);
+
+        // 자기가 보낸 메시지는 이미 반영했으므로 건너뛰고, 다른 인스턴스는 같은 셀을 무효화한다
+        local.onMessage(message, null);
+        remote.onMessage(message, null);
+        local.find(37.5012, 127.0396, 1000, 10, List.of(), null);
+        remote.find(37.5012, 127.0396, 1000, 10, List.of(), null);
+
+        then(geoIndex).should(times(4)).search(any(GeoQuery.class));
+        assertThat(meterRegistry.get("search.response.cache.invalidations").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void find_shouldFallBackWhenTruncatedCandidatesDoNotCoverRadius() {
+        SearchResponseCache cache = newCache(true, 2);
+        stubCandidates(new GeoHit("north", 100.0, 37.5030, 127.0396), new GeoHit("south", 150.0, 37.4995, 127.0396));
+
+        Optional<SearchResponseCache.CachedPage> page = cache.find(37.5012, 127.0396, 1000, 5, List.of(), null);
+
+        assertThat(page).isEmpty();
+        assertThat(meterRegistry.get("search.response.cache.requests").tag("result", "fallback").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void find_shouldLoadHotCellOnceForConcurrentMisses() throws Exception {
+        SearchResponseCache cache = newCache(true, 200);
+        CountDownLatch entered = new CountDownLatch(20);
+        CountDownLatch release = new CountDownLatch(1);
+        given(geoIndex.search(any(GeoQuery.class))).willAnswer(invocation -> {
+            release.await();
+            return List.of(new GeoHit("north", 180.0, 37.5030, 127.0396));
+        });
+        given(projectionCache.getAll(anyCollection())).willReturn(Map.of("north", NORTH));
+
+        List<Future<Optional<SearchResponseCache.CachedPage>>> pages = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 20; i++) {
+                pages.add(executor.submit(() -> {
+                    entered.countDown();
+                    return cache.find(37.5012, 127.0396, 1000, 10, List.of(), null);
+                }));
+            }
+            // 첫 로드가 끝나기 전에 같은 셀로 몰린 미스가 모두 그 로드를 기다리도록 붙잡아 둔다
+            entered.await();
+            Thread.sleep(100);
+            release.countDown();
+        }
+
+        for (Future<Optional<SearchResponseCache.CachedPage>> page : pages) {
+            assertThat(page.get()).isPresent();
+        }
+        then(geoIndex).should(times(1)).search(any(GeoQuery.class));
+    }
+
+    @Test
+    void find_shouldStopCallingRedisWhileBreakerIsOpen() {
+        SearchResponseCache cache = new SearchResponseCache(geoIndex, projectionCache,
+                new CircuitBreakers(meterRegistry, new CircuitBreakers.Settings(
+                        4, 2, 50, Duration.ofSeconds(1), Duration.ofMinutes(1), 1)),
+                redisTemplate, meterRegistry, true, 16, 200, 1000, Duration.ofSeconds(30));
+        given(geoIndex.search(any(GeoQuery.class)))
+                .willThrow(new RedisConnectionFailureException("Connection refused"));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> cache.find(37.5012, 127.0396, 1000, 10, List.of(), null))
+                    .isInstanceOf(RedisConnectionFailureException.class);
+        }
+
+        // 두 번 실패해 브레이커가 열리면 후보 로드도 Redis를 건드리지 않고 바로 실패해 MySQL 폴백으로 넘어간다
+        assertThatThrownBy(() -> cache.find(37.5012, 127.0396, 1000, 10, List.of(), null))
+                .isInstanceOf(CircuitOpenException.class);
+        then(geoIndex).should(times(2)).search(any(GeoQuery.class));
+    }
+
+    @Test
+    void find_shouldBypassWhenDisabled() {
+        SearchResponseCache cache = newCache(false, 200);
+
+        assertThat(cache.find(37.5012, 127.0396, 1000, 10, List.of(), null)).isEmpty();
+        then(geoIndex).shouldHaveNoInteractions();
+    }
+
+    private SearchResponseCache newCache(boolean enabled, int candidateLimit) {
+        return new SearchResponseCache(geoIndex, projectionCache,
+                new CircuitBreakers(meterRegistry, CircuitBreakers.Settings.DEFAULTS), redisTemplate, meterRegistry,
+                enabled, 16, candidateLimit, 1000, Duration.ofSeconds(30));
+    }
+
+    private void stubCandidates(GeoHit... hits) {
+        given(geoIndex.search(any(GeoQuery.class))).willReturn(List.of(hits));
+        given(projectionCache.getAll(anyCollection())).willReturn(Map.of("north", NORTH, "south", SOUTH));
+    }
+}
@@ -0,0 +1,117 @@
+package com.proximityservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void execute_shouldShareOneCallAmongConcurrentDuplicates() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(20);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 20; i++) {
+                results.add(executor.submit(() -> {
+                    entered.countDown();
+                    return singleFlight.execute("key", () -> {
+                        executions.incrementAndGet();
+                        awaitQuietly(release);
+                        return 42;
+                    });
+                }));
+            }
+            // 리더가 실행 중인 동안 나머지 호출이 모두 합류하도록 잠시 붙잡아 둔다
+            entered.await();
+            Thread.sleep(100);
+            release.countDown();
+        }
+
+        for (Future<Integer> result : results) {
+            assertThat(result.get()).isEqualTo(42);
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("test.single.flight.calls").tag("role", "follower").counter().count())
+                .isEqualTo(19.0);
+        assertThat(meterRegistry.get("test.single.flight.collapse.ratio").gauge().value()).isEqualTo(0.95);
+        assertThat(meterRegistry.get("test.single.flight.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void execute_shouldRunOnItsOwnAfterMaxWait() throws Exception {
+        SingleFlight<String, String> singleFlight =
+                new SingleFlight<>("test", Duration.ofMillis(20), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> slow = executor.submit(() -> singleFlight.execute("key", () -> {
+                awaitQuietly(release);
+                return "slow";
+            }));
+            while (meterRegistry.get("test.single.flight.in.flight").gauge().value() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertThat(singleFlight.execute("key", () -> "own")).isEqualTo("own");
+            release.countDown();
+            assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        }
+        assertThat(meterRegistry.get("test.single.flight.calls").tag("role", "timeout").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void execute_shouldShareLeaderFailure() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                awaitQuietly(release);
+                throw new IllegalStateException("backend down");
+            }));
+            while (meterRegistry.get("test.single.flight.in.flight").gauge().value() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> "unused"));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertThatThrownBy(follower::get).hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(leader::get).hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void execute_shouldCallDirectlyWhenDisabled() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ZERO, meterRegistry);
+
+        assertThat(singleFlight.execute("key", () -> "value")).isEqualTo("value");
+        assertThat(meterRegistry.get("test.single.flight.calls").tag("role", "leader").counter().count()).isZero();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.proximityservice.repository.BusinessGeoRepository;
 import com.proximityservice.repository.BusinessRepository;
 import com.proximityservice.service.BusinessService;
 import com.proximityservice.service.NearbySearchService;
+import java.util.HashSet;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,7 +26,8 @@ import org.testcontainers.containers.MySQLContainer;
 @AutoConfigureMockMvc
 public abstract class BaseIntegrationTest {
 
-    private static final String GEO_KEY = "geo:businesses";
+    private static final String GEO_KEY = "{geo:businesses}";
+    private static final String PROJECTION_KEY_PATTERN = "projection:business:*";
 
     // Singleton containers - started once, reused across all test classes
     static final MySQLContainer<?> mysql;
@@ -48,6 +50,7 @@ public abstract class BaseIntegrationTest {
         registry.add("spring.datasource.password", mysql::getPassword);
         registry.add("spring.data.redis.host", redis::getHost);
         registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("proximity.outbox.relay.apply-after-commit", () -> "true");
     }
 
     @Autowired
@@ -77,7 +80,8 @@ public abstract class BaseIntegrationTest {
     @BeforeEach
     void cleanUp() {
         businessRepository.deleteAll();
-        redisTemplate.delete(GEO_KEY);
+        geoRepository.deleteAll();
+        redisTemplate.delete(redisTemplate.keys(PROJECTION_KEY_PATTERN));
     }
 
     // -- Helper methods --
@@ -87,7 +91,13 @@ public abstract class BaseIntegrationTest {
     }
 
     protected Set<String> getRedisMembers() {
-        return geoRepository.getAllMembers();
+        Set<String> members = new HashSet<>();
+        geoRepository.scanMembers(500, batch -> {
+            if (batch.category() == null) {
+                members.addAll(batch.ids());
+            }
+        });
+        return members;
     }
 
     protected long getRedisMemberCount() {
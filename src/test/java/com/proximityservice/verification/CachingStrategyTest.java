@@ -40,7 +40,7 @@ class CachingStrategyTest extends BaseIntegrationTest {
     void redisShouldStoreGeohashScore() {
         Business created = createAndPersist(TestDataFactory.gangnamBusiness("스코어 테스트"));
 
-        Double score = redisTemplate.opsForZSet().score("geo:businesses", created.getId());
+        Double score = redisTemplate.opsForZSet().score("{geo:businesses}", created.getId());
 
         printHeader("Redis ZSet score (geohash) 검증");
         printResult("business ID", created.getId());
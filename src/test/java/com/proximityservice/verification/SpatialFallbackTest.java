@@ -0,0 +1,117 @@
+package com.proximityservice.verification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.proximityservice.config.CircuitBreakers;
+import com.proximityservice.domain.Business;
+import com.proximityservice.dto.BusinessCreateRequest;
+import com.proximityservice.dto.BusinessSearchResult;
+import com.proximityservice.dto.BusinessUpdateRequest;
+import com.proximityservice.dto.NearbySearchResponse;
+import com.proximityservice.geo.GeoHit;
+import com.proximityservice.geo.GeoIndex;
+import com.proximityservice.geo.GeoQuery;
+import com.proximityservice.geo.MySqlSpatialGeoIndex;
+import com.proximityservice.geo.RedisGeoIndex;
+import com.proximityservice.service.BusinessProjectionCache;
+import com.proximityservice.service.NearbySearchService;
+import com.proximityservice.service.SearchResponseCache;
+import com.proximityservice.support.BaseIntegrationTest;
+import com.proximityservice.support.TestDataFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("Redis 장애 시 MySQL 공간 인덱스 폴백 검증")
+class SpatialFallbackTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MySqlSpatialGeoIndex fallbackGeoIndex;
+
+    @Autowired
+    private BusinessProjectionCache projectionCache;
+
+    @Autowired
+    private SearchResponseCache responseCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("쓰기마다 location(SRID 4326)과 geohash 컬럼이 함께 갱신된다")
+    void spatialColumnsShouldFollowEveryWrite() {
+        Business business = createAndPersist(TestDataFactory.gangnamBusiness("강남 맛집"));
+        businessService.update(business.getId(), new BusinessUpdateRequest(
+                "홍대 맛집", "서울시 마포구", TestDataFactory.HONGDAE_LAT, TestDataFactory.HONGDAE_LNG,
+                "korean_food", null, null));
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT ST_SRID(location) AS srid, ST_Latitude(location) AS lat, ST_Longitude(location) AS lng,"
+                        + " geohash FROM business WHERE id = ?", business.getId());
+
+        assertThat(((Number) row.get("srid")).intValue()).isEqualTo(4326);
+        assertThat(((Number) row.get("lat")).doubleValue()).isCloseTo(TestDataFactory.HONGDAE_LAT, within(1e-7));
+        assertThat(((Number) row.get("lng")).doubleValue()).isCloseTo(TestDataFactory.HONGDAE_LNG, within(1e-7));
+        assertThat((String) row.get("geohash")).startsWith("wydm8h");
+    }
+
+    @Test
+    @DisplayName("MySQL 공간 검색 결과가 Redis GEOSEARCH와 같다 (반경 500m ~ 20km)")
+    void spatialSearchShouldMatchRedis() {
+        List<BusinessCreateRequest> requests = TestDataFactory.generateBulk(
+                TestDataFactory.GANGNAM_LAT, TestDataFactory.GANGNAM_LNG, 500, 20000);
+        businessRepository.saveAll(requests.stream()
+                .map(r -> new Business(r.name(), r.address(), r.latitude(), r.longitude(),
+                        r.category(), r.phone(), r.hours()))
+                .toList());
+        syncBatchService.fullSync();
+        RedisGeoIndex redisIndex = new RedisGeoIndex(geoRepository);
+
+        printHeader("MySQL 공간 인덱스 vs Redis GEOSEARCH");
+        for (int radius : new int[]{500, 2000, 5000, 20000}) {
+            GeoQuery query = GeoQuery.of(TestDataFactory.GANGNAM_LNG, TestDataFactory.GANGNAM_LAT, radius, 50);
+            List<String> fromRedis = redisIndex.search(query).stream().map(GeoHit::id).toList();
+            List<String> fromMysql = fallbackGeoIndex.search(query).stream().map(GeoHit::id).toList();
+
+            printPassFail(radius + "m 결과 " + fromRedis.size() + "건 일치", fromRedis.equals(fromMysql));
+            assertThat(fromMysql).containsExactlyInAnyOrderElementsOf(fromRedis);
+        }
+    }
+
+    @Test
+    @DisplayName("Redis 연결 실패 시 같은 응답 형태로 MySQL에서 검색하고 폴백 메트릭을 올린다")
+    void searchShouldFallBackToMysqlWhenRedisIsDown() {
+        Business near = createAndPersist(TestDataFactory.businessAt("근처 카페",
+                TestDataFactory.latOffsetMeters(TestDataFactory.GANGNAM_LAT, 100), TestDataFactory.GANGNAM_LNG,
+                "cafe"));
+        createAndPersist(TestDataFactory.hongdaeBusiness("먼 식당"));
+        NearbySearchResponse expected = nearbySearchService.searchNearby(
+                TestDataFactory.GANGNAM_LAT, TestDataFactory.GANGNAM_LNG, 1000);
+
+        GeoIndex unavailable = mock(GeoIndex.class);
+        given(unavailable.search(any(GeoQuery.class)))
+                .willThrow(new RedisConnectionFailureException("Connection refused"));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NearbySearchService searchService = new NearbySearchService(
+                unavailable, fallbackGeoIndex, projectionCache, responseCache,
+                new CircuitBreakers(meterRegistry, CircuitBreakers.Settings.DEFAULTS), meterRegistry, Duration.ZERO);
+
+        NearbySearchResponse response = searchService.searchNearby(
+                TestDataFactory.GANGNAM_LAT, TestDataFactory.GANGNAM_LNG, 1000);
+
+        assertThat(response.businesses()).extracting(BusinessSearchResult::id).containsExactly(near.getId());
+        assertThat(response.businesses()).usingRecursiveFieldByFieldElementComparatorIgnoringFields("distanceM")
+                .isEqualTo(expected.businesses());
+        assertThat(meterRegistry.get("search.fallback").counter().count()).isEqualTo(1.0);
+    }
+}